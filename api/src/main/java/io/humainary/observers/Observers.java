@@ -8,10 +8,15 @@ import io.humainary.observers.spi.ObserversProvider;
 import io.humainary.spi.Providers;
 import io.humainary.substrates.Substrates;
 
-import java.util.function.BiFunction;
-import java.util.function.Function;
-import java.util.function.Predicate;
-import java.util.function.UnaryOperator;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import java.util.function.*;
 
 import static io.humainary.substrates.Substrates.*;
 
@@ -32,6 +37,260 @@ public final class Observers {
   private Observers () {}
 
 
+  /**
+   * The {@link Environment} property used to select the {@link Storage} of the closure state of a context.
+   * The property value is the name of one of the {@link Storage} constants and defaults to {@link Storage#HEAP}.
+   */
+
+  public static final Name STORAGE = name ( "io.humainary.observers.storage" );
+
+
+  /**
+   * The {@link Environment} property used to size (in observers) the initial slab allocated by a context when
+   * the {@link #STORAGE} property is set to one of {@link Storage#SLAB}, {@link Storage#SEGMENT} or {@link Storage#ARENA}.
+   */
+
+  public static final Name STORAGE_CAPACITY = name ( "io.humainary.observers.storage.capacity" );
+
+
+  /**
+   * The {@link Environment} property used to size (in bytes) the slot reserved per observer for each of the closure
+   * state and observation result when the {@link #STORAGE} property is set to {@link Storage#ARENA} and the
+   * {@link Codec} of either is not of a fixed {@link Codec#width()}. The property defaults to {@code 64}.
+   * <p>
+   * An observation whose closure state or result encodes wider than the slot fails with a
+   * {@link java.nio.BufferOverflowException} thrown by the observer, leaving the previously written closure state
+   * and result of the slot in place.
+   */
+
+  public static final Name STORAGE_SLOT = name ( "io.humainary.observers.storage.slot" );
+
+
+  /**
+   * The {@link Environment} property used to set the number of partitions across which a context spreads
+   * its observers when performing a {@link Context#sync()} or a bulk observation. The property defaults
+   * to {@code 1}, which disables parallelism, whereas {@code 0} uses the number of available processors.
+   */
+
+  public static final Name PARALLELISM = name ( "io.humainary.observers.parallelism" );
+
+
+  /**
+   * The {@link Environment} property used to select the {@link Execution} of the partitions of a parallel context,
+   * of the lanes of a sharded context, and of the observations dispatched by a {@link Scheduler}.
+   * The property value is the name of one of the {@link Execution} constants and defaults to {@link Execution#FORK_JOIN}.
+   */
+
+  public static final Name EXECUTION = name ( "io.humainary.observers.execution" );
+
+
+  /**
+   * The {@link Environment} property used to select the {@link Synchronization} performed by {@link Context#sync()}.
+   * The property value is the name of one of the {@link Synchronization} constants and defaults to {@link Synchronization#FULL}.
+   */
+
+  public static final Name SYNCHRONIZATION = name ( "io.humainary.observers.synchronization" );
+
+
+  /**
+   * The {@link Environment} property used to set the minimum interval, in milliseconds, between the publishing
+   * of the observation results of an observer within a push-based context. Events are still folded into the
+   * closure state as they are emitted, but subscribers are emitted at most one (the latest) result per interval.
+   * A result held back is published on the trailing edge, once the interval since the previous publication has
+   * elapsed, so that the last result of an observer that goes quiet is not withheld until {@link Context#flush()}.
+   * The property defaults to {@code 0}, which disables time-based conflation.
+   *
+   * @see Context#flush()
+   */
+
+  public static final Name CONFLATION_INTERVAL = name ( "io.humainary.observers.conflation.interval" );
+
+
+  /**
+   * The {@link Environment} property used to set the number of events folded into the observation result of an
+   * observer within a push-based context before the latest result is published to subscribers. The property
+   * defaults to {@code 1}, which publishes on every event. When combined with {@link #CONFLATION_INTERVAL}
+   * a result is published on whichever threshold is reached first, with a held result published on the trailing
+   * edge of the interval. Without an interval a held result waits for the threshold or a {@link Context#flush()}.
+   *
+   * @see Context#flush()
+   */
+
+  public static final Name CONFLATION_EVENTS = name ( "io.humainary.observers.conflation.events" );
+
+
+  /**
+   * The {@link Environment} property used to select the {@link Registry} mapping names to observers within a context.
+   * The property value is the name of one of the {@link Registry} constants and defaults to {@link Registry#CONCURRENT}.
+   */
+
+  public static final Name REGISTRY = name ( "io.humainary.observers.registry" );
+
+
+  /**
+   * The {@link Environment} property used to enable the tracking of changed observation results within a context.
+   * When enabled, each observer is stamped with the epoch of the context whenever its composed result differs
+   * from its previous one, a {@link Sketch} result updated in place differing whenever a value has been recorded
+   * within it since the previous observation. The property value is either {@code true} or {@code false} and defaults to {@code false}.
+   *
+   * @see Context#changedSince(long)
+   */
+
+  public static final Name TRACKING = name ( "io.humainary.observers.tracking" );
+
+
+  /**
+   * The {@link Environment} property used to set the path of the memory-mapped file in which a context persists the
+   * closure state and latest observation result of each of its observers keyed by name. On creation, a context
+   * reattaches to an existing file, with the observers it holds being restored without calling the bootstrap.
+   * Persistence is disabled when the property is not set.
+   * <p>
+   * The reference closure state and observation results of an {@link Optic} are only persisted when the optic
+   * has been {@linkplain #encoded(Optic, Codec, Codec) encoded}, whereas primitive results and slots always are.
+   * <p>
+   * The file starts with a header holding the version of the file format, the {@linkplain Codec#width() widths}
+   * of the codecs and the {@link #PERSISTENCE_SCHEMA}. A context reattaching to a file whose header does not match
+   * fails on creation with an {@link IllegalStateException} naming the file, rather than decoding its entries.
+   *
+   * @see Context#checkpoint()
+   */
+
+  public static final Name PERSISTENCE = name ( "io.humainary.observers.persistence" );
+
+
+  /**
+   * The {@link Environment} property used to set an identifier of the optic and codecs of a persistent context,
+   * which is written to the header of its file and checked on reattaching. As neither the behavior of an optic
+   * nor the format of a codec can be fingerprinted reliably, the identifier should be changed along with either.
+   * The property defaults to the empty string.
+   *
+   * @see #PERSISTENCE
+   */
+
+  public static final Name PERSISTENCE_SCHEMA = name ( "io.humainary.observers.persistence.schema" );
+
+
+  /**
+   * The {@link Environment} property used to set the interval, in milliseconds, between the incremental checkpoints
+   * of a persistent context, each writing only the observers changed since the previous one. The property defaults
+   * to {@code 0}, which limits checkpoints to calls of {@link Context#checkpoint()} and {@link Context#close()}.
+   *
+   * @see #PERSISTENCE
+   */
+
+  public static final Name CHECKPOINT_INTERVAL = name ( "io.humainary.observers.checkpoint.interval" );
+
+
+  /**
+   * The {@link Environment} property used to set the tick, in milliseconds, of the timer wheel of a {@link Scheduler},
+   * being the granularity at which scheduled observations are dispatched. The property defaults to {@code 10}.
+   */
+
+  public static final Name SCHEDULER_TICK = name ( "io.humainary.observers.scheduler.tick" );
+
+
+  /**
+   * The {@link Environment} property used to set the maximum random delay, as a percentage of the period, added to
+   * the first observation of each schedule of a {@link Scheduler}. The property defaults to {@code 0}.
+   */
+
+  public static final Name SCHEDULER_JITTER = name ( "io.humainary.observers.scheduler.jitter" );
+
+
+  /**
+   * The {@link Environment} property used to set the time, in milliseconds, an observation result of a pull-based
+   * observer remains fresh. Calls to {@link Observer#observe()} within this time of the last observation return
+   * without invoking the lens and operant again. The property defaults to {@code 0}, which disables caching.
+   *
+   * @see Observer#invalidate()
+   */
+
+  public static final Name CACHE_TTL = name ( "io.humainary.observers.cache.ttl" );
+
+
+  /**
+   * The {@link Environment} property used to set the additional time, in milliseconds, beyond {@link #CACHE_TTL}
+   * that a stale observation result is still served while a single refreshing observation is performed by another
+   * caller. The property defaults to {@code 0}, in which case callers wait on the refresh once the result expires.
+   */
+
+  public static final Name CACHE_STALENESS = name ( "io.humainary.observers.cache.staleness" );
+
+
+  /**
+   * The {@link Environment} property used to enable single-flight observation of a pull-based observer, whereby
+   * concurrent calls to {@link Observer#observe()} arriving while an observation is in progress wait on, and
+   * share, that observation rather than invoking the lens themselves. The property value is either {@code true}
+   * or {@code false} and defaults to {@code true} when {@link #CACHE_TTL} is set and {@code false} otherwise.
+   */
+
+  public static final Name CACHE_SINGLE_FLIGHT = name ( "io.humainary.observers.cache.single.flight" );
+
+
+  /**
+   * The {@link Environment} property used to set the maximum number of observers held by a context, beyond which
+   * observers are retired, along with their {@link Closure} state, as selected by the {@link #EVICTION} policy.
+   * The property defaults to {@code 0}, in which case the observer population is unbounded. The observer whose
+   * creation takes the population beyond the limit is never itself the one evicted.
+   * <p>
+   * An evicted observer is gone from the context as if its observable had been removed:
+   * <ul>
+   * <li>within a push-based context the observer is created again from the {@link Bootstrap} on the next event of
+   * its observable, so its fold restarts rather than resuming from the evicted result;</li>
+   * <li>its result is {@linkplain Aggregate#retract(Object, Object) retracted} from the aggregates of each
+   * {@linkplain #rollup(Context, Aggregate, Environment) roll-up} of the context;</li>
+   * <li>its entry is dropped from the file of a {@linkplain #PERSISTENCE persistent} context, so that it is not
+   * restored on the context reattaching.</li>
+   * </ul>
+   *
+   * @see Context#evictions(BiConsumer)
+   * @see Context#statistics()
+   */
+
+  public static final Name OBSERVER_LIMIT = name ( "io.humainary.observers.observer.limit" );
+
+
+  /**
+   * The {@link Environment} property used to select the {@link Eviction} policy of a context bounded by {@link #OBSERVER_LIMIT}.
+   * The property value is the name of one of the {@link Eviction} constants and defaults to {@link Eviction#LRU}.
+   */
+
+  public static final Name EVICTION = name ( "io.humainary.observers.eviction" );
+
+
+  /**
+   * The {@link Environment} property used to set the time, in milliseconds, an observer can go without being looked up
+   * or observed before it is retired under the {@link Eviction#IDLE} policy. The property defaults to {@code 60000}.
+   */
+
+  public static final Name EVICTION_IDLE = name ( "io.humainary.observers.eviction.idle" );
+
+
+  /**
+   * The {@link Environment} property used to set the number of single-writer lanes of a push-based context.
+   * Emitted events are hashed by the {@code Name} of their observer onto a lane, with each lane drained by a
+   * single thread, as selected by the {@link #EXECUTION} property, so that events of an observer are folded in
+   * order and without locking in {@link Operant#compose(Closure, Object, Object)}. As with {@link #PARALLELISM},
+   * the property defaults to {@code 1}, which disables sharding with events being folded on the emitting thread,
+   * whereas {@code 0} uses the number of available processors.
+   *
+   * @see Context#flush()
+   */
+
+  public static final Name SHARDS = name ( "io.humainary.observers.shards" );
+
+
+  /**
+   * The {@link Environment} property used to size (in events) the bounded multi-producer single-consumer queue of
+   * each lane of a sharded push-based context, with emitting threads spinning and then parking once a lane is full.
+   * The value is rounded up to a power of two and defaults to {@code 1024}.
+   *
+   * @see #SHARDS
+   */
+
+  public static final Name SHARD_CAPACITY = name ( "io.humainary.observers.shard.capacity" );
+
+
   /**
    * A context represents some configured boundary within a process space where instruments are managed.
    *
@@ -43,7 +302,8 @@ public final class Observers {
             AutoCloseable {
 
     /**
-     * Releases the underlying resources held by the context.
+     * Releases the underlying resources held by the context, including any off-heap memory allocated for the
+     * {@link Storage#ARENA} storage, after which the observers of this context must no longer be used.
      */
 
     void close ();
@@ -51,6 +311,9 @@ public final class Observers {
 
     /**
      * Returns the {@link Observer} mapped to the specified {@code Name}
+     * <p>
+     * With the {@link Storage#ARENA} storage, the returned observer is a flyweight view over an off-heap slot that
+     * is created on demand and not retained by this context, so repeated calls need not return the same instance.
      *
      * @param name the {@code Name} to be used to look and possibly create the {@link Observer}
      * @return A non-null {@link Observer} reference
@@ -62,13 +325,220 @@ public final class Observers {
     );
 
 
+    /**
+     * Returns a {@link Handle} to the {@link Observer} mapped to the specified {@code Name}.
+     * <p>
+     * The handle is resolved once, and repeatedly returned, for a given name so that callers holding on to
+     * it bypass the name-to-observer mapping of this context on each subsequent observation. Should the observer
+     * be evicted from a context bounded by {@link #OBSERVER_LIMIT}, the handle resolves a new observer on next use.
+     *
+     * @param name the {@code Name} to be used to look and possibly create the {@link Observer}
+     * @return A non-null {@link Handle} reference
+     * @see #observer(Name)
+     */
+
+    Handle< R > handle (
+      final Name name
+    );
+
+
     /**
      * Causes the context to synchronize itself with the underlying observable
      * state space (source, container) in terms of the observers-to-observables.
+     * <p>
+     * When the context is configured with a {@link #PARALLELISM} greater than one the observers are
+     * partitioned and synchronized concurrently, with this call returning once all partitions complete.
+     * <p>
+     * When the context is configured with {@link Synchronization#INCREMENTAL} synchronization only those
+     * observers whose observables were added or removed since the previous call are created, retired or rebound.
+     *
+     * @see #SYNCHRONIZATION
      */
 
     void sync ();
 
+
+    /**
+     * Performs an observation of every {@link Observer} within this context in a single pass.
+     * <p>
+     * Instead of emitting per observer, the results are coalesced into a single {@link Observations}
+     * batch delivered to the consumers registered with {@link #batches(Consumer)}, whereas the subscribers
+     * of this context are only emitted the results of those observers that changed.
+     * <p>
+     * When the context is configured with a {@link #PARALLELISM} greater than one the observers are
+     * partitioned and observed concurrently. Each observer is only ever observed by a single partition,
+     * so the emissions of an observer remain ordered, and the batch lists results in the order of the
+     * observers within the context regardless of the order in which partitions complete.
+     *
+     * @return The number of observers whose observation result changed
+     * @see Observer#observe()
+     */
+
+    int observeAll ();
+
+
+    /**
+     * Performs an observation of the {@link Observer observers} mapped to the specified names in a single pass.
+     * <p>
+     * The observers are looked up, and possibly created, as with {@link #observer(Name)} with the
+     * results being coalesced and delivered as described for {@link #observeAll()}.
+     *
+     * @param names the names of the observers to be observed
+     * @return The number of observers whose observation result changed
+     * @see #observeAll()
+     */
+
+    int observe (
+      final Iterable< ? extends Name > names
+    );
+
+
+    /**
+     * Registers a consumer of the {@link Observations} batches produced by {@link #observeAll()} and {@link #observe(Iterable)}.
+     *
+     * @param consumer the consumer to be called with each batch of observation results
+     * @return A subscription that can be closed to cancel the delivery of batches
+     */
+
+    Subscription batches (
+      final Consumer< ? super Observations< R > > consumer
+    );
+
+
+    /**
+     * Registers a consumer of the name and last observation result of each {@link Observer} evicted from this context.
+     * The consumer is called after the observer has been removed from the name-to-observer mapping of this context
+     * and before its {@link Closure} state is released, by which time its result has been retracted from any
+     * roll-up of this context and its persisted entry dropped.
+     *
+     * @param consumer the consumer to be called with each evicted observer name and result
+     * @return A subscription that can be closed to cancel the delivery of evictions
+     * @see #OBSERVER_LIMIT
+     */
+
+    Subscription evictions (
+      final BiConsumer< ? super Name, ? super R > consumer
+    );
+
+
+    /**
+     * Returns the {@link Statistics} of the name-to-observer mapping of this context.
+     *
+     * @return A non-null {@link Statistics} reference
+     */
+
+    Statistics statistics ();
+
+
+    /**
+     * Performs an observation of every {@link Observer} within this context without blocking the calling thread,
+     * so that a slow observable cannot stall the observation of the others.
+     * <p>
+     * The results are coalesced and delivered as described for {@link #observeAll()} once every observation has
+     * completed or timed out, with those timing out being neither counted nor included in the batch.
+     *
+     * @return A completion stage of the number of observers whose observation result changed
+     * @see Observer#observeAsync()
+     */
+
+    CompletionStage< Integer > observeAllAsync ();
+
+
+    /**
+     * Combines the latest observation results of the observers named by, or enclosed within, the specified name prefix.
+     * <p>
+     * Observers without an observation result (null) are skipped, and the results are combined in an unspecified
+     * order, so the accumulator must be associative and commutative. The accumulator must not mutate either
+     * result, as these can be the live results of observers, which rules out this form for results that are
+     * costly to combine into a new instance, such as sketches.
+     *
+     * @param prefix      the name prefix of the observers whose results are combined
+     * @param accumulator the function used to combine two observation results
+     * @return The combined result, or an empty optional if no observer within the prefix has a result
+     * @see #reduce(Name, Object, BiFunction)
+     */
+
+    Optional< R > reduce (
+      final Name prefix,
+      final BinaryOperator< R > accumulator
+    );
+
+
+    /**
+     * Folds the latest observation results of the observers named by, or enclosed within, the specified name prefix
+     * into a container supplied by the caller, the results being folded by the calling thread in an unspecified order.
+     * <p>
+     * Observers without an observation result (null) are skipped. As the container is owned by the caller it can be
+     * updated in place, which allows, for example, the sketches held by many observers to be merged into a single
+     * distribution without allocating per observer using {@code reduce ( prefix, sketch ( 0.01 ), Sketch::accumulate )}.
+     *
+     * @param prefix      the name prefix of the observers whose results are folded
+     * @param identity    the container into which the results are folded
+     * @param accumulator the function folding a result into the container and returning the container
+     * @param <A>         the class type of the container
+     * @return The container returned by the last call to the accumulator, or the identity if no observer has a result
+     */
+
+    < A > A reduce (
+      final Name prefix,
+      final A identity,
+      final BiFunction< A, ? super R, A > accumulator
+    );
+
+
+    /**
+     * Returns an immutable, column-wise snapshot of the latest observation result of every observer within this context.
+     * <p>
+     * The snapshot is captured in a single pass and forms a consistent cut with respect to concurrent updates:
+     * each result is the latest composed before the cut and no result composed after it is included. The snapshot
+     * can be read, and serialized, without holding locks on this context and without running any lens.
+     *
+     * @return An immutable snapshot of the observation results within this context
+     */
+
+    Snapshot< R > snapshot ();
+
+
+    /**
+     * Returns an immutable, column-wise snapshot of the latest observation result of only those observers
+     * whose result changed after the cut of the specified epoch, being a result composed that differs from
+     * the previous one. The returned snapshot is itself a cut, whose epoch can be passed to the next call.
+     * <p>
+     * When the context is not configured with {@link #TRACKING} enabled every observer is treated as changed.
+     *
+     * @param epoch the epoch of a previous snapshot
+     * @return An immutable snapshot of the observation results that changed since the epoch
+     * @see Snapshot#epoch()
+     */
+
+    Snapshot< R > changedSince (
+      final long epoch
+    );
+
+
+    /**
+     * Writes the closure state and latest observation result of those observers changed since the previous
+     * checkpoint to the memory-mapped file of this context, doing nothing if the context is not persistent.
+     *
+     * @see #PERSISTENCE
+     */
+
+    void checkpoint ();
+
+
+    /**
+     * Publishes to subscribers the latest observation result of each observer that has been
+     * folded into but not yet published due to conflation, without waiting on the trailing edge
+     * of the {@link #CONFLATION_INTERVAL}. For a sharded context, events queued
+     * on its lanes at the time of the call are first drained and folded.
+     *
+     * @see #CONFLATION_INTERVAL
+     * @see #CONFLATION_EVENTS
+     * @see #SHARDS
+     */
+
+    void flush ();
+
   }
 
 
@@ -89,488 +559,3595 @@ public final class Observers {
 
 
     /**
-     * Performs an observation of the underlying observable object
+     * Performs an observation of the underlying observable object, unless the context is configured with a
+     * {@link Observers#CACHE_TTL} and the last observation result is still fresh.
      */
 
     void observe ();
 
 
-    /**
-     * @param lens    the lens used to capture an observed value from the underlying observable object
-     * @param closure the closure to be passed to the lens when there exists an observable object
-     * @param <V>     the class type of the observed value
-     * @param <C>     the class type of the closure state
-     * @return The value returned by the lens or null if there was observable
-     */
+    /**
+     * Marks the cached observation result of this observer as expired so that the next call to {@link #observe()}
+     * captures a new observed value irrespective of the {@link Observers#CACHE_TTL} of the context.
+     */
+
+    void invalidate ();
+
+
+    /**
+     * @param lens    the lens used to capture an observed value from the underlying observable object
+     * @param closure the closure to be passed to the lens when there exists an observable object
+     * @param <V>     the class type of the observed value
+     * @param <C>     the class type of the closure state
+     * @return The value returned by the lens or null if there was observable
+     */
+
+    < C, V > V observe (
+      Lens< C, ? super R, V > lens,
+      Closure< C > closure
+    );
+
+
+    /**
+     * Performs an observation of the underlying observable object without blocking the calling thread.
+     * <p>
+     * For an observer created with an {@link AsyncOptic} at most one capture of the underlying observable is in
+     * flight at any time. In-flight de-duplication is against that capture and not against the stage returned to a
+     * caller: a returned stage completes exceptionally with a {@code TimeoutException} once the timeout of the optic
+     * elapses from the call, leaving the previous result in place, but the capture itself runs on. Calls made while
+     * a capture is in flight, including one whose earlier callers have timed out, do not capture again; they are
+     * returned a new stage that completes with the result folded from that capture, or times out in turn. A capture
+     * that completes after timing out is still folded into the result and released before the stages joined on it
+     * complete, and only then can a further call capture again. For any other observer the observation is
+     * performed on the calling thread and the stage is already complete.
+     *
+     * @return A completion stage of the observation result
+     */
+
+    CompletionStage< R > observeAsync ();
+
+  }
+
+
+  /**
+   * A stable, pre-resolved reference to an {@link Observer} slot within the observer table of a {@link Context}.
+   * <p>
+   * A handle survives a {@link Context#sync()} without being resolved again, with the exception of those
+   * whose observable was removed by the synchronization, which are resolved again on their next use.
+   *
+   * @param <R> the class type of the observation result
+   * @see Context#handle(Name)
+   */
+
+  public interface Handle< R > {
+
+    /**
+     * Returns the {@link Observer} currently referenced by this handle.
+     *
+     * @return A non-null {@link Observer} reference
+     */
+
+    Observer< R > observer ();
+
+
+    /**
+     * Performs an observation of the underlying observable object
+     *
+     * @see Observer#observe()
+     */
+
+    void observe ();
+
+
+    /**
+     * Returns the latest observation result without performing an observation.
+     *
+     * @return The latest observation result, which can be {@code null} if the bootstrap returned {@code null} and there has been no observation
+     */
+
+    R value ();
+
+  }
+
+
+  /**
+   * An immutable, index-addressed sequence of observation results.
+   * <p>
+   * The names and results are held column-wise so that no per-observation object
+   * is created in producing or iterating over the sequence. The order of the sequence
+   * is unspecified, and for a context observing its partitions in parallel need not
+   * follow the order in which observers were created.
+   *
+   * @param <R> the class type of the observation result
+   * @see Context#batches(Consumer)
+   */
+
+  public interface Observations< R > {
+
+    /**
+     * Returns the number of observation results within this sequence.
+     *
+     * @return The number of observation results
+     */
+
+    int size ();
+
+
+    /**
+     * Returns the name of the {@link Observer} at the specified index.
+     *
+     * @param index the index of the observation within this sequence
+     * @return The name of the observer
+     * @throws IndexOutOfBoundsException if the index is not within {@code [0, size())}
+     */
+
+    Name name (
+      int index
+    );
+
+
+    /**
+     * Returns the observation result at the specified index.
+     *
+     * @param index the index of the observation within this sequence
+     * @return The observation result of the observer
+     * @throws IndexOutOfBoundsException if the index is not within {@code [0, size())}
+     */
+
+    R result (
+      int index
+    );
+
+
+    /**
+     * Calls the consumer with the name and result of each observation within this sequence in index order.
+     *
+     * @param consumer the consumer to be called with each name and result pair
+     */
+
+    default void forEach (
+      final BiConsumer< ? super Name, ? super R > consumer
+    ) {
+
+      final var size = size ();
+
+      for ( var i = 0; i < size; i++ ) {
+        consumer.accept (
+          name ( i ),
+          result ( i )
+        );
+      }
+
+    }
+
+  }
+
+
+  /**
+   * An immutable, point-in-time view of the observation results within a {@link Context}.
+   *
+   * @param <R> the class type of the observation result
+   * @see Context#snapshot()
+   */
+
+  public interface Snapshot< R >
+    extends Observations< R > {
+
+    /**
+     * Returns the epoch of the context at which this snapshot was cut.
+     * <p>
+     * The epoch of a context advances with each cut, so a later snapshot has a greater epoch.
+     *
+     * @return The epoch at which this snapshot was cut
+     */
+
+    long epoch ();
+
+  }
+
+
+  /**
+   * A {@link Snapshot} holding unboxed {@code long} observation results.
+   *
+   * @see LongContext#snapshot()
+   */
+
+  public interface LongSnapshot
+    extends Snapshot< Long > {
+
+    /**
+     * Returns the unboxed observation result at the specified index.
+     *
+     * @param index the index of the observation within this snapshot
+     * @return The observation result of the observer
+     * @throws IndexOutOfBoundsException if the index is not within {@code [0, size())}
+     */
+
+    long resultAsLong (
+      int index
+    );
+
+  }
+
+
+  /**
+   * A {@link Snapshot} holding unboxed {@code double} observation results.
+   *
+   * @see DoubleContext#snapshot()
+   */
+
+  public interface DoubleSnapshot
+    extends Snapshot< Double > {
+
+    /**
+     * Returns the unboxed observation result at the specified index.
+     *
+     * @param index the index of the observation within this snapshot
+     * @return The observation result of the observer
+     * @throws IndexOutOfBoundsException if the index is not within {@code [0, size())}
+     */
+
+    double resultAsDouble (
+      int index
+    );
+
+  }
+
+
+  /**
+   * An interface that allows an {@link Optic} to manage state across multiple observations of the same observable.
+   *
+   * @param <T> the class type of the state managed by the closure
+   * @see Bootstrap
+   * @see Lens
+   * @see Operant
+   * @see Optic
+   */
+
+  public interface Closure< T > {
+
+    /**
+     * Sets the value of the state managed by this closure.
+     *
+     * @param value the new state of the closure
+     */
+
+    void set (
+      T value
+    );
+
+
+    /**
+     * Returns the current state managed by this closure.
+     *
+     * @return the current value of the state
+     */
+
+    T get ();
+
+
+    /**
+     * Returns a view of the primitive {@code long} slot held alongside the state of this closure.
+     * <p>
+     * The slot shares its storage with the {@link #asDouble()} view, and the returned view
+     * must not be retained beyond the call to the {@link Optic} it was passed to. Only the
+     * closures created by a context hold a primitive slot, with other closures, such as
+     * those passed to {@link Observer#observe(Lens, Closure)}, not required to do so.
+     *
+     * @return A non-null primitive {@code long} view of this closure
+     * @throws UnsupportedOperationException if this closure does not hold a primitive slot
+     */
+
+    default LongClosure asLong () {
+
+      throw new UnsupportedOperationException ();
+
+    }
+
+
+    /**
+     * Returns a view of the primitive {@code double} slot held alongside the state of this closure.
+     * <p>
+     * The slot shares its storage with the {@link #asLong()} view, and the returned view
+     * must not be retained beyond the call to the {@link Optic} it was passed to. Only the
+     * closures created by a context hold a primitive slot, with other closures, such as
+     * those passed to {@link Observer#observe(Lens, Closure)}, not required to do so.
+     *
+     * @return A non-null primitive {@code double} view of this closure
+     * @throws UnsupportedOperationException if this closure does not hold a primitive slot
+     */
+
+    default DoubleClosure asDouble () {
+
+      throw new UnsupportedOperationException ();
+
+    }
+
+  }
+
+
+  /**
+   * A primitive {@code long} closure used by an {@link Optic} to manage unboxed state across observations.
+   *
+   * @see Closure#asLong()
+   */
+
+  public interface LongClosure {
+
+    /**
+     * Sets the value of the state managed by this closure.
+     *
+     * @param value the new state of the closure
+     */
+
+    void setAsLong (
+      long value
+    );
+
+
+    /**
+     * Returns the current state managed by this closure.
+     *
+     * @return the current value of the state
+     */
+
+    long getAsLong ();
+
+  }
+
+
+  /**
+   * A primitive {@code double} closure used by an {@link Optic} to manage unboxed state across observations.
+   *
+   * @see Closure#asDouble()
+   */
+
+  public interface DoubleClosure {
+
+    /**
+     * Sets the value of the state managed by this closure.
+     *
+     * @param value the new state of the closure
+     */
+
+    void setAsDouble (
+      double value
+    );
+
+
+    /**
+     * Returns the current state managed by this closure.
+     *
+     * @return the current value of the state
+     */
+
+    double getAsDouble ();
+
+  }
+
+
+  /**
+   * The storage strategies a context can use in holding the {@link Closure} state of its observers.
+   *
+   * @see #STORAGE
+   */
+
+  public enum Storage {
+
+    /**
+     * Each observer is allocated its own closure object on the heap.
+     */
+
+    HEAP,
+
+    /**
+     * Closure state is held in contiguous on-heap arrays indexed by the ordinal of an observer,
+     * with closures passed to an {@link Optic} being flyweight views over a slot.
+     */
+
+    SLAB,
+
+    /**
+     * Closure state is held in an off-heap memory segment indexed by the ordinal of an observer,
+     * with reference state remaining on-heap in a parallel array, so that heap usage still grows with the
+     * number of observers. Runtimes lacking support for memory segments fall back to {@link #SLAB}.
+     */
+
+    SEGMENT,
+
+    /**
+     * Closure state and the latest observation result are both encoded into off-heap memory segments allocated
+     * from an arena bound to the lifecycle of the context, indexed by an off-heap name-to-ordinal table.
+     * Observers are flyweight views created on demand, so that heap usage is independent of the number of
+     * observers.
+     * <p>
+     * Holding no reference state on-heap, this storage has no fallback. Creating a context with it fails with an
+     * {@link IllegalArgumentException} when the optic does not carry codecs, as returned by
+     * {@link #encoded(Optic, Codec, Codec)}, and with an {@link UnsupportedOperationException} on runtimes
+     * lacking support for memory segments.
+     *
+     * @see #STORAGE_SLOT
+     */
+
+    ARENA
+
+  }
+
+
+  /**
+   * The executors a parallel context can use in running the partitions of its observers,
+   * and a scheduler can use in running its observations.
+   *
+   * @see #PARALLELISM
+   * @see #EXECUTION
+   */
+
+  public enum Execution {
+
+    /**
+     * Partitions are run as tasks within the common {@code ForkJoinPool}.
+     */
+
+    FORK_JOIN,
+
+    /**
+     * Partitions are each run on a virtual thread, which suits lenses that block on the observable.
+     * Runtimes lacking support for virtual threads fall back to {@link #FORK_JOIN}.
+     */
+
+    VIRTUAL,
+
+    /**
+     * Partitions, and lanes, are each run on a dedicated platform thread, which suits the draining
+     * of a sharded context under sustained load where lanes are seldom idle.
+     */
+
+    DEDICATED
+
+  }
+
+
+  /**
+   * The strategies a context can use in synchronizing its observers with the underlying observable state space.
+   *
+   * @see #SYNCHRONIZATION
+   * @see Context#sync()
+   */
+
+  public enum Synchronization {
+
+    /**
+     * Each synchronization walks the underlying container or source and reconciles
+     * every observer-to-observable mapping, at a cost proportional to its size, with
+     * each observable resolved against the name-to-observer mapping of the context.
+     */
+
+    FULL,
+
+    /**
+     * The context subscribes to the underlying container or source and records the observables added or
+     * removed between synchronizations, with each synchronization only creating, retiring or rebinding the
+     * observers affected, at a cost proportional to the churn. Only the observables affected are resolved
+     * against the name-to-observer mapping, so that a synchronization without churn leaves the
+     * {@link Statistics} of the context unchanged. Containers and sources that do not notify
+     * of such changes are synchronized in full.
+     */
+
+    INCREMENTAL
+
+  }
+
+
+  /**
+   * The registries a context can use in mapping a {@code Name} to an {@link Observer}.
+   *
+   * @see #REGISTRY
+   * @see Context#observer(Name)
+   */
+
+  public enum Registry {
+
+    /**
+     * A general purpose concurrent hash map keyed by name equality.
+     */
+
+    CONCURRENT,
+
+    /**
+     * A table split into stripes keyed by name identity, with a wait-free read path and
+     * creation only contending with other creations hashed to the same stripe.
+     */
+
+    STRIPED,
+
+    /**
+     * A lock-free open-addressed table keyed by name identity, with a wait-free read path and
+     * creation performed with a single compare-and-set on the probed slot.
+     */
+
+    OPEN_ADDRESSED
+
+  }
+
+
+  /**
+   * The policies a context bounded by {@link #OBSERVER_LIMIT} can use in selecting the observer to be evicted.
+   *
+   * @see #EVICTION
+   * @see Context#evictions(BiConsumer)
+   */
+
+  public enum Eviction {
+
+    /**
+     * The least recently looked up or observed observer is evicted.
+     */
+
+    LRU,
+
+    /**
+     * The least frequently looked up or observed observer is evicted, with the frequency
+     * held in an aging sketch so that formerly popular names eventually become candidates.
+     */
+
+    LFU,
+
+    /**
+     * Observers not looked up or observed within the {@link #EVICTION_IDLE} time are evicted on the next
+     * lookup of the context, falling back to {@link #LRU} should the population still exceed the limit.
+     */
+
+    IDLE
+
+  }
+
+
+  /**
+   * The counters of the name-to-observer mapping of a {@link Context}, all values being cumulative since the creation of the context.
+   *
+   * @see Context#statistics()
+   */
+
+  public interface Statistics {
+
+    /**
+     * Returns the number of observers currently held by the context.
+     *
+     * @return The number of observers held
+     */
+
+    int size ();
+
+
+    /**
+     * Returns the number of lookups resolved to an existing observer, including those performed in
+     * reconciling an observable during a {@link Context#sync()}.
+     *
+     * @return The number of hits
+     */
+
+    long hits ();
+
+
+    /**
+     * Returns the number of lookups resulting in the creation of an observer.
+     *
+     * @return The number of misses
+     */
+
+    long misses ();
+
+
+    /**
+     * Returns the number of observers evicted from the context.
+     *
+     * @return The number of evictions
+     */
+
+    long evictions ();
+
+  }
+
+
+  /**
+   * An interface that allows for the setting up of the {@link Closure} state and/or the initial observation result.
+   *
+   * @param <C> the class type of the closure state
+   * @param <R> the class type of the initial result
+   * @see Optic
+   */
+
+  @FunctionalInterface
+  public interface Bootstrap< C, R > {
+
+    /**
+     * A method used to initialize the {@link Closure } and set an initial (default) observation result.
+     *
+     * @param name    the name of the observer
+     * @param closure the closure associated with the observable object
+     * @return the initial observation result
+     */
+
+    R initialize (
+      Closure< C > closure,
+      Name name
+    );
+
+  }
+
+
+  /**
+   * An interface used to capture an observed value from an observable object (referent or emittance).
+   *
+   * @param <C> the class type of the closure state
+   * @param <O> the class type of the observable object
+   * @param <V> the class type of the observed value
+   */
+
+  @FunctionalInterface
+  public interface Lens< C, O, V > {
+
+    /**
+     * Capture an observed value from an observable object.
+     *
+     * @param closure    the closure associated with the observable object
+     * @param observable the observable object
+     * @return The observed value captured
+     */
+
+    V capture (
+      final Closure< C > closure,
+      final O observable
+    );
+
+
+    /**
+     * Returns a lens that first applies this lens and then the specified `after` lens
+     *
+     * @param after the lens to be applied after the capture from this lens
+     * @param <T>   the class type of the post-capture lens observation result
+     * @return A lens that firsts applies this lens and then the `after` lens
+     */
+
+    default < T > Lens< C, O, T > pipe (
+      final Lens< C, ? super V, ? extends T > after
+    ) {
+
+      return
+        ( closure, observable ) ->
+          after.capture (
+            closure,
+            capture (
+              closure,
+              observable
+            )
+          );
+
+    }
+
+
+    /**
+     * Returns a lens that first tests a predicate before performing the capture with this lens.
+     *
+     * @param predicate the predicate to be called in determining whether to apply the lens
+     * @return A lens that firsts checks a predicate before the lens is applied to the target
+     */
+
+    default Lens< C, O, V > require (
+      final Predicate< ? super O > predicate
+    ) {
+
+      return
+        ( closure, observable ) ->
+          predicate.test ( observable )
+          ? capture ( closure, observable )
+          : null;
+
+    }
+
+  }
+
+
+  /**
+   * An interface that is used to compose an observation using a closure (past state) and the latest observed value.
+   *
+   * @param <C> the class type of the closure state
+   * @param <V> the class type of the observed value
+   * @param <R> the class type of the observation result
+   */
+
+  @FunctionalInterface
+  public interface Operant< C, V, R > {
+
+    /**
+     * Returns an observation result based on the new observed value and closure state
+     *
+     * @param closure the closure associated with the observable object
+     * @param prev    the previous observation result
+     * @param value   the latest observed value captured from the observable object
+     * @return An observation result based on the new observed value and closure state
+     */
+
+    R compose (
+      Closure< C > closure,
+      R prev,
+      V value
+    );
+
+  }
+
+
+  /**
+   * An interface that combines {@link Bootstrap}, {@link Lens}, and {@link Operant} interfaces.
+   *
+   * @param <C> the class type of the closure state
+   * @param <O> the class type of the observable object
+   * @param <V> the class type of the observed value
+   * @param <R> the class type of the observation result
+   */
+
+  public interface Optic< C, O, V, R >
+    extends Bootstrap< C, R >,
+            Lens< C, O, V >,
+            Operant< C, V, R >,
+            Substrate {
+
+    /**
+     * Captures an observed value from the observable object and composes it with the previous observation result.
+     * <p>
+     * This is the single entry point called by a context on each observation, which a
+     * {@linkplain Observers#fuse(Optic) fused} optic overrides with one monomorphic body.
+     *
+     * @param closure    the closure associated with the observable object
+     * @param prev       the previous observation result
+     * @param observable the observable object
+     * @return An observation result based on the newly observed value and closure state
+     */
+
+    default R apply (
+      final Closure< C > closure,
+      final R prev,
+      final O observable
+    ) {
+
+      return
+        compose (
+          closure,
+          prev,
+          capture (
+            closure,
+            observable
+          )
+        );
+
+    }
+
+  }
+
+
+  /**
+   * A {@link Lens} variant that captures an observed value from an observable object asynchronously.
+   *
+   * @param <C> the class type of the closure state
+   * @param <O> the class type of the observable object
+   * @param <V> the class type of the observed value
+   * @see AsyncOptic
+   */
+
+  @FunctionalInterface
+  public interface AsyncLens< C, O, V > {
+
+    /**
+     * Capture an observed value from an observable object asynchronously.
+     *
+     * @param closure    the closure associated with the observable object
+     * @param observable the observable object
+     * @return A completion stage of the observed value captured
+     */
+
+    CompletionStage< V > capture (
+      final Closure< C > closure,
+      final O observable
+    );
+
+  }
+
+
+  /**
+   * An interface that combines {@link Bootstrap}, {@link AsyncLens}, and {@link Operant} interfaces with a timeout.
+   *
+   * @param <C> the class type of the closure state
+   * @param <O> the class type of the observable object
+   * @param <V> the class type of the observed value
+   * @param <R> the class type of the observation result
+   */
+
+  public interface AsyncOptic< C, O, V, R >
+    extends Bootstrap< C, R >,
+            AsyncLens< C, O, V >,
+            Operant< C, V, R >,
+            Substrate {
+
+    /**
+     * Returns the maximum time a caller of {@link Observer#observeAsync()} waits on a capture before its completion
+     * stage fails with a {@code TimeoutException}. The capture is not cancelled on timeout and remains the one
+     * in-flight capture of the observer until it completes.
+     *
+     * @return The timeout of a capture
+     */
+
+    Duration timeout ();
+
+  }
+
+
+  /**
+   * A {@link Context} whose observation results are primitive {@code long} values.
+   * <p>
+   * The results are folded and held in unboxed form; a boxed {@code Long} is only
+   * materialized when an emission is delivered to a subscriber of the context.
+   *
+   * @see LongOptic
+   */
+
+  public interface LongContext
+    extends Context< Long > {
+
+    /**
+     * Returns the {@link LongObserver} mapped to the specified {@code Name}
+     *
+     * @param name the {@code Name} to be used to look and possibly create the {@link LongObserver}
+     * @return A non-null {@link LongObserver} reference
+     */
+
+    @Override
+    LongObserver observer (
+      final Name name
+    );
+
+
+    /**
+     * Returns an immutable, column-wise snapshot holding the unboxed observation results of the observers within this context.
+     *
+     * @return An immutable snapshot of the observation results within this context
+     * @see Context#snapshot()
+     */
+
+    @Override
+    LongSnapshot snapshot ();
+
+
+    /**
+     * Returns an immutable, column-wise snapshot holding the unboxed observation results of the observers that changed since the epoch.
+     *
+     * @param epoch the epoch of a previous snapshot
+     * @return An immutable snapshot of the observation results that changed since the epoch
+     * @see Context#changedSince(long)
+     */
+
+    @Override
+    LongSnapshot changedSince (
+      final long epoch
+    );
+
+  }
+
+
+  /**
+   * A {@link Context} whose observation results are primitive {@code double} values.
+   * <p>
+   * The results are folded and held in unboxed form; a boxed {@code Double} is only
+   * materialized when an emission is delivered to a subscriber of the context.
+   *
+   * @see DoubleOptic
+   */
+
+  public interface DoubleContext
+    extends Context< Double > {
+
+    /**
+     * Returns the {@link DoubleObserver} mapped to the specified {@code Name}
+     *
+     * @param name the {@code Name} to be used to look and possibly create the {@link DoubleObserver}
+     * @return A non-null {@link DoubleObserver} reference
+     */
+
+    @Override
+    DoubleObserver observer (
+      final Name name
+    );
+
+
+    /**
+     * Returns an immutable, column-wise snapshot holding the unboxed observation results of the observers within this context.
+     *
+     * @return An immutable snapshot of the observation results within this context
+     * @see Context#snapshot()
+     */
+
+    @Override
+    DoubleSnapshot snapshot ();
+
+
+    /**
+     * Returns an immutable, column-wise snapshot holding the unboxed observation results of the observers that changed since the epoch.
+     *
+     * @param epoch the epoch of a previous snapshot
+     * @return An immutable snapshot of the observation results that changed since the epoch
+     * @see Context#changedSince(long)
+     */
+
+    @Override
+    DoubleSnapshot changedSince (
+      final long epoch
+    );
+
+  }
+
+
+  /**
+   * An {@link Observer} whose observation result is a primitive {@code long} value.
+   */
+
+  public interface LongObserver
+    extends Observer< Long > {
+
+    /**
+     * Returns the latest observation result without performing an observation.
+     *
+     * @return The latest observation result
+     */
+
+    long value ();
+
+  }
+
+
+  /**
+   * An {@link Observer} whose observation result is a primitive {@code double} value.
+   */
+
+  public interface DoubleObserver
+    extends Observer< Double > {
+
+    /**
+     * Returns the latest observation result without performing an observation.
+     *
+     * @return The latest observation result
+     */
+
+    double value ();
+
+  }
+
+
+  /**
+   * A {@link Bootstrap} specialization that sets a primitive {@code long} initial observation result.
+   *
+   * @param <C> the class type of the closure state
+   * @see LongOptic
+   */
+
+  @FunctionalInterface
+  public interface LongBootstrap< C > {
+
+    /**
+     * A method used to initialize the {@link Closure } and set an initial (default) observation result.
+     *
+     * @param closure the closure associated with the observable object
+     * @param name    the name of the observer
+     * @return the initial observation result
+     */
+
+    long initialize (
+      Closure< C > closure,
+      Name name
+    );
+
+  }
+
+
+  /**
+   * A {@link Bootstrap} specialization that sets a primitive {@code double} initial observation result.
+   *
+   * @param <C> the class type of the closure state
+   * @see DoubleOptic
+   */
+
+  @FunctionalInterface
+  public interface DoubleBootstrap< C > {
+
+    /**
+     * A method used to initialize the {@link Closure } and set an initial (default) observation result.
+     *
+     * @param closure the closure associated with the observable object
+     * @param name    the name of the observer
+     * @return the initial observation result
+     */
+
+    double initialize (
+      Closure< C > closure,
+      Name name
+    );
+
+  }
+
+
+  /**
+   * A {@link Lens} specialization that captures a primitive {@code long} observed value from an observable object.
+   *
+   * @param <C> the class type of the closure state
+   * @param <O> the class type of the observable object
+   * @see LongOptic
+   */
+
+  @FunctionalInterface
+  public interface LongLens< C, O > {
+
+    /**
+     * Capture an observed value from an observable object.
+     *
+     * @param closure    the closure associated with the observable object
+     * @param observable the observable object
+     * @return The observed value captured
+     */
+
+    long capture (
+      final Closure< C > closure,
+      final O observable
+    );
+
+  }
+
+
+  /**
+   * A {@link Lens} specialization that captures a primitive {@code double} observed value from an observable object.
+   *
+   * @param <C> the class type of the closure state
+   * @param <O> the class type of the observable object
+   * @see DoubleOptic
+   */
+
+  @FunctionalInterface
+  public interface DoubleLens< C, O > {
+
+    /**
+     * Capture an observed value from an observable object.
+     *
+     * @param closure    the closure associated with the observable object
+     * @param observable the observable object
+     * @return The observed value captured
+     */
+
+    double capture (
+      final Closure< C > closure,
+      final O observable
+    );
+
+  }
+
+
+  /**
+   * An {@link Operant} specialization that composes a primitive {@code long} observation result.
+   *
+   * @param <C> the class type of the closure state
+   * @see LongOptic
+   */
+
+  @FunctionalInterface
+  public interface LongOperant< C > {
+
+    /**
+     * Returns an observation result based on the new observed value and closure state
+     *
+     * @param closure the closure associated with the observable object
+     * @param prev    the previous observation result
+     * @param value   the latest observed value captured from the observable object
+     * @return An observation result based on the new observed value and closure state
+     */
+
+    long compose (
+      Closure< C > closure,
+      long prev,
+      long value
+    );
+
+  }
+
+
+  /**
+   * An {@link Operant} specialization that composes a primitive {@code double} observation result.
+   *
+   * @param <C> the class type of the closure state
+   * @see DoubleOptic
+   */
+
+  @FunctionalInterface
+  public interface DoubleOperant< C > {
+
+    /**
+     * Returns an observation result based on the new observed value and closure state
+     *
+     * @param closure the closure associated with the observable object
+     * @param prev    the previous observation result
+     * @param value   the latest observed value captured from the observable object
+     * @return An observation result based on the new observed value and closure state
+     */
+
+    double compose (
+      Closure< C > closure,
+      double prev,
+      double value
+    );
+
+  }
+
+
+  /**
+   * An interface that combines {@link LongBootstrap}, {@link LongLens}, and {@link LongOperant} interfaces.
+   *
+   * @param <C> the class type of the closure state
+   * @param <O> the class type of the observable object
+   */
+
+  public interface LongOptic< C, O >
+    extends LongBootstrap< C >,
+            LongLens< C, O >,
+            LongOperant< C >,
+            Substrate {
+
+    /**
+     * Captures an observed value from the observable object and composes it with the previous observation result.
+     * <p>
+     * This is the single entry point called by a context on each observation, which a
+     * {@linkplain Observers#fuse(LongOptic) fused} optic overrides with one monomorphic body.
+     *
+     * @param closure    the closure associated with the observable object
+     * @param prev       the previous observation result
+     * @param observable the observable object
+     * @return An observation result based on the newly observed value and closure state
+     */
+
+    default long apply (
+      final Closure< C > closure,
+      final long prev,
+      final O observable
+    ) {
+
+      return
+        compose (
+          closure,
+          prev,
+          capture (
+            closure,
+            observable
+          )
+        );
+
+    }
+
+  }
+
+
+  /**
+   * An interface that combines {@link DoubleBootstrap}, {@link DoubleLens}, and {@link DoubleOperant} interfaces.
+   *
+   * @param <C> the class type of the closure state
+   * @param <O> the class type of the observable object
+   */
+
+  public interface DoubleOptic< C, O >
+    extends DoubleBootstrap< C >,
+            DoubleLens< C, O >,
+            DoubleOperant< C >,
+            Substrate {
+
+    /**
+     * Captures an observed value from the observable object and composes it with the previous observation result.
+     * <p>
+     * This is the single entry point called by a context on each observation, which a
+     * {@linkplain Observers#fuse(DoubleOptic) fused} optic overrides with one monomorphic body.
+     *
+     * @param closure    the closure associated with the observable object
+     * @param prev       the previous observation result
+     * @param observable the observable object
+     * @return An observation result based on the newly observed value and closure state
+     */
+
+    default double apply (
+      final Closure< C > closure,
+      final double prev,
+      final O observable
+    ) {
+
+      return
+        compose (
+          closure,
+          prev,
+          capture (
+            closure,
+            observable
+          )
+        );
+
+    }
+
+  }
+
+
+  /**
+   * The closure state of a windowed optic, being a fixed ring of time buckets allocated once per observer
+   * and updated in place, so that folding an observed value into the window performs no allocation.
+   *
+   * @see #window(LongLens, Duration, int)
+   * @see #tumble(LongLens, Duration)
+   * @see #rate(LongLens, Duration, int)
+   */
+
+  public interface Window {
+
+    /**
+     * Returns the duration covered by this window.
+     *
+     * @return The duration covered by this window
+     */
+
+    Duration duration ();
+
+
+    /**
+     * Returns the sum of the observed values currently held within this window.
+     *
+     * @return The sum of the observed values within this window
+     */
+
+    long sum ();
+
+
+    /**
+     * Returns the number of observed values currently held within this window.
+     *
+     * @return The number of observed values within this window
+     */
+
+    long count ();
+
+  }
+
+
+  /**
+   * A mergeable, bounded-error summary of the distribution of observed values with a fixed memory footprint.
+   * <p>
+   * A sketch is used both as the closure state of a quantile optic and as the observation result of a
+   * sketch optic, in both cases being allocated once per observer and updated in place.
+   * <p>
+   * As successive observations of a sketch optic return the same instance, the change detection performed by
+   * {@link Context#observeAll()}, {@link Context#changedSince(long)} and a {@link Sampling} policy compares the
+   * {@link #count()} of the sketch with its count at the previous observation, rather than the instances, so that
+   * the result is treated as changed whenever a value has been recorded within it since.
+   *
+   * @see #quantile(DoubleLens, double, double)
+   * @see #sketch(DoubleLens, double)
+   */
+
+  public interface Sketch {
+
+    /**
+     * Returns the number of observed values recorded within this sketch.
+     *
+     * @return The number of observed values recorded
+     */
+
+    long count ();
+
+
+    /**
+     * Returns an estimate of the value at the specified quantile of the recorded values.
+     *
+     * @param quantile the quantile within {@code [0.0, 1.0]}
+     * @return An estimate of the value at the quantile, or {@code NaN} if no value has been recorded
+     */
+
+    double quantile (
+      double quantile
+    );
+
+
+    /**
+     * Returns the smallest value recorded within this sketch.
+     *
+     * @return The smallest value recorded, or {@code NaN} if no value has been recorded
+     */
+
+    double min ();
+
+
+    /**
+     * Returns the largest value recorded within this sketch.
+     *
+     * @return The largest value recorded, or {@code NaN} if no value has been recorded
+     */
+
+    double max ();
+
+
+    /**
+     * Returns a new sketch summarizing the values recorded within both this and the specified sketch,
+     * leaving both unchanged. The accuracy of the returned sketch is the coarser of the two.
+     *
+     * @param other the sketch to be merged with this sketch
+     * @return A new sketch summarizing the values of both sketches
+     */
+
+    Sketch merge (
+      Sketch other
+    );
+
+
+    /**
+     * Adds the values summarized by the specified sketch into this sketch in place, leaving the other unchanged.
+     * This sketch keeps its accuracy, with the values of a coarser sketch being recorded at the coarser accuracy.
+     *
+     * @param other the sketch whose values are added to this sketch
+     * @return This sketch
+     * @see Context#reduce(Name, Object, BiFunction)
+     */
+
+    Sketch accumulate (
+      Sketch other
+    );
+
+
+    /**
+     * Returns an immutable copy of this sketch that is unaffected by values subsequently recorded within this sketch.
+     *
+     * @return An immutable copy of this sketch
+     */
+
+    Sketch copy ();
+
+  }
+
+
+  /**
+   * An associative (and commutative) combination of observation results maintained incrementally by a roll-up context.
+   * <p>
+   * An observation result is first lifted into the aggregate of that single result, and aggregates are then only ever
+   * merged with other aggregates, whether adding a result to a level or recombining a level from its immediate children,
+   * so that both paths yield the same aggregate. Observers without an observation result (null) are never lifted.
+   *
+   * @param <R> the class type of the observation result
+   * @see #rollup(Context, Aggregate, Environment)
+   */
+
+  public interface Aggregate< R > {
+
+    /**
+     * Returns the aggregate of no observation results, being the observation result of a prefix level within which
+     * no observer has a result. A {@code null} identity, as used by {@link #min()} and {@link #max()}, leaves such a
+     * level without a result, in which case {@link #combine(Object, Object)} must treat a null aggregate as absent.
+     *
+     * @return The identity of the combination
+     */
+
+    R identity ();
+
+
+    /**
+     * Returns the aggregate of the single specified observation result, which by default is the result itself.
+     *
+     * @param value the non-null observation result to be lifted
+     * @return The aggregate of the observation result
+     */
+
+    default R lift (
+      final R value
+    ) {
+
+      return
+        value;
+
+    }
+
+
+    /**
+     * Returns the aggregate that results from merging two aggregates, which must be associative and commutative.
+     *
+     * @param left  an aggregate
+     * @param right another aggregate
+     * @return The merged aggregate
+     */
+
+    R combine (
+      R left,
+      R right
+    );
+
+
+    /**
+     * Returns the aggregate that results from removing a previously merged aggregate, being the lift of an
+     * observation result, from an aggregate.
+     * <p>
+     * An aggregate that cannot be inverted, such as a minimum or maximum, returns an empty optional,
+     * which has the roll-up context recombine the affected level from the aggregates of its immediate children.
+     *
+     * @param aggregate the current aggregate
+     * @param value     the aggregate to be removed
+     * @return The new aggregate, or an empty optional if the combination cannot be inverted
+     */
+
+    default Optional< R > retract (
+      final R aggregate,
+      final R value
+    ) {
+
+      return
+        Optional.empty ();
+
+    }
+
+  }
+
+
+  /**
+   * An interface used to write and read values of a type to and from a binary buffer.
+   *
+   * @param <T> the class type of the values encoded and decoded
+   * @see #encoded(Optic, Codec, Codec)
+   */
+
+  public interface Codec< T > {
+
+    /**
+     * Writes the value to the buffer starting at its current position, advancing the position past the value.
+     * <p>
+     * A codec must encode a {@code null} value, this being the result of a default {@link #bootstrap()}
+     * and of a lens failing a {@linkplain Lens#require(Predicate) requirement}, and must check the remaining
+     * capacity of the buffer before writing, so that the position is left unchanged when the value does not fit.
+     *
+     * @param value  the value to be encoded, which may be null
+     * @param buffer the buffer to be written to
+     * @throws java.nio.BufferOverflowException if the remaining capacity of the buffer is insufficient
+     */
+
+    void encode (
+      T value,
+      ByteBuffer buffer
+    );
+
+
+    /**
+     * Reads a value from the buffer starting at its current position, advancing the position past the value,
+     * with the position being left unchanged when the buffer does not hold a complete value.
+     *
+     * @param buffer the buffer to be read from
+     * @return The decoded value, which may be null
+     * @throws java.nio.BufferUnderflowException if the buffer does not hold a complete value
+     */
+
+    T decode (
+      ByteBuffer buffer
+    );
+
+
+    /**
+     * Returns the number of bytes every encoded value occupies, allowing values to be held in fixed-size slots.
+     *
+     * @return The fixed width of an encoded value in bytes or {@code -1} if values vary in width
+     * @see #STORAGE_SLOT
+     */
+
+    default int width () {
+
+      return
+        -1;
+
+    }
+
+  }
+
+
+  /**
+   * A {@link Codec} of {@code Long} values whose results an {@link Encoder} writes relative to the previous result of
+   * the same name, as a zigzag varint of their difference, rather than with {@link #encode(Object, ByteBuffer)}.
+   * Implementing this interface is what opts a codec into the delta encoding, with the identity of a codec being irrelevant.
+   *
+   * @see #longCodec()
+   */
+
+  public interface LongCodec
+    extends Codec< Long > {
+
+  }
+
+
+  /**
+   * A {@link Codec} of {@code Double} values whose results an {@link Encoder} writes relative to the previous result of
+   * the same name, as a varint of the XOR of their bits, rather than with {@link #encode(Object, ByteBuffer)}.
+   * Implementing this interface is what opts a codec into the delta encoding, with the identity of a codec being irrelevant.
+   *
+   * @see #doubleCodec()
+   */
+
+  public interface DoubleCodec
+    extends Codec< Double > {
+
+  }
+
+
+  /**
+   * An interface that writes observer emissions, and batches of observation results, to a channel in a compact binary format.
+   * <p>
+   * The stream starts with a header of a magic number, the version of the format and whether results are delta encoded,
+   * which is written with the first frame, or on the first flush or close should no emission have been encoded.
+   * Emissions are accumulated within a reusable frame buffer that is written to the channel once full, or when flushed.
+   * Each frame is prefixed with its length and starts with the names first referenced within it, which are assigned an
+   * integer in a dictionary shared by all frames, followed by entries of a varint encoded name index and a result encoded
+   * with the {@link Codec}. Results encoded with a {@link LongCodec} or {@link DoubleCodec} are written as a zigzag varint
+   * of the difference (or XOR of bits) to the previous result of the same name, preceded by a presence byte.
+   * <p>
+   * An encoder is not thread-safe, so a context emitting on multiple threads should be consumed via its batches.
+   *
+   * @param <R> the class type of the observation result
+   * @see #encoder(WritableByteChannel, Codec, int)
+   * @see Decoder
+   */
+
+  public interface Encoder< R >
+    extends Consumer< Observations< R > >,
+            AutoCloseable {
+
+    /**
+     * Returns an outlet that encodes each emission it receives, for use with the {@code consume} method of a context.
+     *
+     * @return An outlet that encodes the emissions of a context
+     */
+
+    Outlet< R > outlet ();
+
+
+    /**
+     * Encodes each of the observation results within the batch, for use with {@link Context#batches(Consumer)}.
+     *
+     * @param observations the batch of observation results to be encoded
+     */
+
+    @Override
+    void accept (
+      Observations< R > observations
+    );
+
+
+    /**
+     * Writes the current frame to the channel.
+     *
+     * @throws UncheckedIOException if the writing to the channel fails
+     */
+
+    void flush ();
+
+
+    /**
+     * Writes the current frame to the channel and releases the frame buffer, without closing the channel.
+     */
+
+    @Override
+    void close ();
+
+  }
+
+
+  /**
+   * An interface that reads the frames written by an {@link Encoder} from a channel, for replay within tests and tools.
+   *
+   * @param <R> the class type of the observation result
+   * @see #decoder(ReadableByteChannel, Codec)
+   */
+
+  public interface Decoder< R >
+    extends AutoCloseable {
+
+    /**
+     * Reads the next frame from the channel, calling the consumer with the name and result of each entry in order.
+     * The header of the stream is read and checked on the first call.
+     *
+     * @param consumer the consumer to be called with each name and result pair
+     * @return {@code true} if a frame was read, or {@code false} if the end of the channel was reached
+     * @throws UncheckedIOException if the reading from the channel fails, the frame is malformed, or the header does
+     *                              not have the magic number, a supported version, or the delta encoding of the codec
+     */
+
+    boolean decode (
+      BiConsumer< ? super Name, ? super R > consumer
+    );
+
+
+    /**
+     * Releases the frame buffer, without closing the channel.
+     */
+
+    @Override
+    void close ();
+
+  }
+
+
+  /**
+   * An interface representing the capture of the raw events emitted by a source to a channel.
+   * <p>
+   * The stream starts with the same header as that of an {@link Encoder}, after which each event is written with the
+   * name of its referent, using the same name dictionary encoding, its emittance encoded with a {@link Codec}, and
+   * the nanoseconds elapsed since the previous event.
+   *
+   * @see #record(Source, Codec, WritableByteChannel)
+   * @see Replay
+   */
+
+  public interface Recording
+    extends AutoCloseable {
+
+    /**
+     * Returns the number of events recorded so far.
+     *
+     * @return The number of events recorded
+     */
+
+    long events ();
+
+
+    /**
+     * Stops recording, cancelling the subscription to the source, and writes any buffered events to the channel.
+     */
+
+    @Override
+    void close ();
+
+  }
+
+
+  /**
+   * A {@code Source} that re-emits the events captured by a {@link Recording}, so that it can be passed
+   * in place of the recorded source in the creation of a push-based {@link Context}.
+   * <p>
+   * Each play reads the channel from the position it had when the replay was created, so a replay can be
+   * played repeatedly, such as once per benchmark iteration, with the names decoded by the first play being
+   * reused by those after it.
+   *
+   * @param <E> the class type of the emittance
+   * @see #replay(SeekableByteChannel, Codec)
+   */
+
+  public interface Replay< E >
+    extends Source< E > {
+
+    /**
+     * Emits all recorded events to the subscribers of this source on the calling thread, after first
+     * repositioning the channel at the start of the recording. Plays must not overlap.
+     *
+     * @param pace the pace at which the events are emitted
+     * @return The throughput and latency measured in emitting the events
+     * @throws UncheckedIOException if the reading from the channel fails or its header is not that of a recording
+     */
+
+    Playback play (
+      Pace pace
+    );
+
+  }
+
+
+  /**
+   * The paces at which a {@link Replay} can emit recorded events.
+   */
+
+  public enum Pace {
+
+    /**
+     * Events are emitted with the same time elapsed between them as when recorded.
+     */
+
+    RECORDED,
+
+    /**
+     * Events are emitted back-to-back as fast as the subscribers consume them.
+     */
+
+    MAXIMUM
+
+  }
+
+
+  /**
+   * The measurements taken in playing a {@link Replay}.
+   */
+
+  public interface Playback {
+
+    /**
+     * Returns the number of events emitted.
+     *
+     * @return The number of events emitted
+     */
+
+    long events ();
+
+
+    /**
+     * Returns the wall-clock time taken in emitting all events.
+     *
+     * @return The time taken in emitting all events
+     */
+
+    Duration elapsed ();
+
+
+    /**
+     * Returns the distribution of the nanoseconds taken by the subscribers in consuming each emitted event.
+     *
+     * @return A sketch of the per-event latencies in nanoseconds
+     */
+
+    Sketch latency ();
+
+  }
+
+
+  /**
+   * An interface that periodically observes pull-based observers from a single timer wheel thread.
+   * <p>
+   * The observations due on a tick are dispatched to the {@link Execution} configured for the scheduler,
+   * so that slow lenses running on virtual threads do not delay the timer wheel or other observations.
+   *
+   * @see #scheduler(Environment)
+   */
+
+  public interface Scheduler
+    extends AutoCloseable {
+
+    /**
+     * Schedules each observer within the context to be observed once every period, with the observers spread
+     * evenly across the period by name so that the observations of a large context do not all fall on one tick.
+     * Observers subsequently added to the context are scheduled on its next {@link Context#sync()}.
+     *
+     * @param context the context whose observers are scheduled
+     * @param period  the period between the observations of each observer
+     * @return A subscription that can be closed to cancel the schedule
+     */
+
+    Subscription schedule (
+      Context< ? > context,
+      Duration period
+    );
+
+
+    /**
+     * Schedules the observer to be observed once every period.
+     *
+     * @param observer the observer to be scheduled
+     * @param period   the period between the observations of the observer
+     * @return A subscription that can be closed to cancel the schedule
+     */
+
+    Subscription schedule (
+      Observer< ? > observer,
+      Duration period
+    );
+
+
+    /**
+     * Schedules each observer within the context to be observed with a period set per observer by the sampling policy,
+     * with the first observations spread evenly across the initial period of the policy.
+     *
+     * @param context  the context whose observers are scheduled
+     * @param sampling the policy that sets the period between the observations of each observer
+     * @return A subscription that can be closed to cancel the schedule
+     * @see #adaptive(Duration, Duration, double)
+     */
+
+    Subscription schedule (
+      Context< ? > context,
+      Sampling sampling
+    );
+
+
+    /**
+     * Schedules the observer to be observed with a period set by the sampling policy.
+     *
+     * @param observer the observer to be scheduled
+     * @param sampling the policy that sets the period between the observations of the observer
+     * @return A subscription that can be closed to cancel the schedule
+     */
+
+    Subscription schedule (
+      Observer< ? > observer,
+      Sampling sampling
+    );
+
+
+    /**
+     * Cancels all schedules and stops the timer wheel thread, waiting for in-flight observations to complete.
+     */
+
+    @Override
+    void close ();
+
+  }
+
+
+  /**
+   * A policy that sets the period until the next observation of an observer scheduled by a {@link Scheduler},
+   * based on its current period and whether its last observation changed its result, being a result composed
+   * by the {@link Operant} that differs from the previous one.
+   *
+   * @see #fixed(Duration)
+   * @see #adaptive(Duration, Duration, double)
+   */
+
+  @FunctionalInterface
+  public interface Sampling {
+
+    /**
+     * Returns the initial period of an observer, used in spreading the first observations.
+     *
+     * @return The initial period in nanoseconds
+     */
+
+    default long initial () {
+
+      return
+        next (
+          0L,
+          true
+        );
+
+    }
+
+
+    /**
+     * Returns the period until the next observation of an observer.
+     *
+     * @param period  the current period of the observer in nanoseconds
+     * @param changed whether the last observation of the observer changed its result
+     * @return The next period in nanoseconds
+     */
+
+    long next (
+      long period,
+      boolean changed
+    );
+
+  }
+
+
+  /**
+   * Returns a {@link Bootstrap} that returns {@code null} as the initial observation result for all observables.
+   *
+   * @param <C> the class type of the closure state
+   * @param <R> the class type of the observation result
+   * @return A bootstrap that returns {@code null} as the initial observation result.
+   */
+
+  public static < C, R > Bootstrap< C, R > bootstrap () {
+
+    return
+      PROVIDER.bootstrap ();
+
+  }
+
+
+  /**
+   * Returns a {@link Bootstrap} that returns the same initial observation result for all observables.
+   *
+   * @param defValue the value to be used as the initial observation result
+   * @param <C>      the class type of the closure state
+   * @param <R>      the class type of the observation result
+   * @return a bootstrap that returns the same initial observation result.
+   */
+
+  public static < C, R > Bootstrap< C, R > bootstrap (
+    final R defValue
+  ) {
+
+    return
+      PROVIDER.bootstrap (
+        defValue
+      );
+
+  }
+
+
+  /**
+   * Returns a {@link Lens} that always returns its observable object.
+   *
+   * @param <C> the class type of the closure state
+   * @param <O> the class type of the observable object
+   * @return a lens that always returns its observable object
+   */
+
+  public static < C, O > Lens< C, O, O > lens () {
+
+    return
+      PROVIDER.lens ();
+
+  }
+
+
+  /**
+   * Returns a {@link Lens} that applies the function to the observable object in creating an observed value
+   *
+   * @param <C> the class type of the closure state
+   * @param <O> the class type of the observable object
+   * @param <V> the class type of the observed value (input)
+   * @return a lens that returns the value from the supplied function
+   */
+
+  public static < C, O, V > Lens< C, O, V > lens (
+    final Function< ? super O, ? extends V > func
+  ) {
+
+    return
+      PROVIDER.lens (
+        func
+      );
+
+  }
+
+
+  /**
+   * Returns a {@link Lens} that returns the observable object if the predicate succeeds otherwise {@code null}.
+   *
+   * @param predicate the predicate to be tested against the observable
+   * @param <C>       the class type of the closure state
+   * @param <O>       the class type of the observable object
+   * @return a lens that returns the observable object if the predicate succeeds otherwise {@code null}
+   */
+
+  public static < C, O > Lens< C, O, O > lens (
+    final Predicate< ? super O > predicate
+  ) {
+
+    return
+      PROVIDER.lens (
+        predicate
+      );
+
+  }
+
+
+  /**
+   * Returns an {@link Operant} that always returns its observed value.
+   *
+   * @param <C> the class type of the closure state
+   * @param <V> the class type of both the observed value (input) and observation result (output)
+   * @return an operant that always returns its observed value (input)
+   */
+
+  public static < C, V > Operant< C, V, V > operant () {
+
+    return
+      PROVIDER.operant ();
+
+  }
+
+
+  /**
+   * Returns an {@link Operant} that applies the function to the previous observation result and newly observed value (discarding the closure state).
+   *
+   * @param func the function to be applied to the prev result and observed value (drops the closure)
+   * @param <C>  the class type of the closure state
+   * @param <V>  the class type of the observed value
+   * @param <R>  the class type of the observation result
+   * @return An operant that applies the function to the prev result and newly observed value
+   */
+
+  public static < C, V, R > Operant< C, V, R > operant (
+    final BiFunction< ? super R, ? super V, ? extends R > func
+  ) {
+
+    return
+      PROVIDER.operant (
+        func
+      );
+
+  }
+
+
+  /**
+   * Returns an {@link Operant} that applies the operator to the previous observation result (discarding both the closure state and observed value).
+   *
+   * @param operator the operator to be applied to the previous observation result
+   * @param <C>      the class type of the closure state
+   * @param <V>      the class type of the observed value
+   * @param <R>      the class type of the observation result
+   * @return An operant that applies the operator to the previous observation result
+   */
+
+  public static < C, V, R > Operant< C, V, R > operant (
+    final UnaryOperator< R > operator
+  ) {
+
+    return
+      PROVIDER.operant (
+        operator
+      );
+
+  }
+
+
+  /**
+   * Returns an {@link Operant} that applies the function to the newly observed value (discarding the closure and previous value).
+   *
+   * @param func the function to be applied to the newly observed value
+   * @param <C>  the class type of the closure state
+   * @param <V>  the class type of the observed value
+   * @param <R>  the class type of the observation result
+   * @return An operant that applies the function to the newly observed value
+   */
+
+  public static < C, V, R > Operant< C, V, R > operant (
+    final Function< ? super V, ? extends R > func
+  ) {
+
+    return
+      PROVIDER.operant (
+        func
+      );
+
+  }
+
+  /**
+   * Returns an {@link Optic} that returns the observable as the observation result.
+   *
+   * @param <C> the class type of the closure state
+   * @param <O> the class type of the observable object
+   * @return An optic that returns the observable as the observation result.
+   */
+
+  public static < C, O > Optic< C, O, O, O > optic () {
+
+    return
+      PROVIDER.optic ();
+
+  }
+
+
+  /**
+   * Returns an {@link Optic} that uses the provided {@link Lens} to capture an observed value from an observable and return it.
+   *
+   * @param lens the lens used to capture an observed value from an observable object
+   * @param <C>  the class type of the closure state
+   * @param <O>  the class type of the observable object
+   * @param <V>  the class type of the observed value
+   * @return An optic that uses the provided lens and operant to perform to return the observed value.
+   */
+
+  public static < C, O, V > Optic< C, O, V, V > optic (
+    final Lens< C, ? super O, ? extends V > lens
+  ) {
+
+    return
+      PROVIDER.optic (
+        lens
+      );
+
+  }
+
+
+  /**
+   * Returns an {@link Optic} that uses the provided uses the observable object as the observed value input into an {@link Operant}.
+   *
+   * @param operant the operant applied to the observable object
+   * @param <C>     the class type of the closure state
+   * @param <V>     the class type of the observable and observed value
+   * @param <R>     the class type of the observation result
+   * @return An optic that uses the provided operant to compose an observation result from an observable object
+   */
+
+  public static < C, V, R > Optic< C, V, V, R > optic (
+    final Operant< C, ? super V, R > operant
+  ) {
+
+    return
+      PROVIDER.optic (
+        operant
+      );
+
+  }
+
+
+  /**
+   * Returns an {@link Optic} that uses the provided {@link Lens} to capture an observed value from an observable and then applies an {@link Operant}.
+   *
+   * @param lens    the lens used to capture an observed value from an observable object
+   * @param operant the operant applied to the observed value returned by the lens
+   * @param <C>     the class type of the closure state
+   * @param <O>     the class type of the observable object
+   * @param <V>     the class type of the observed value
+   * @param <R>     the class type of the observation result
+   * @return An optic that uses the provided lens and operant to perform.
+   */
+
+  public static < C, O, V, R > Optic< C, O, V, R > optic (
+    final Bootstrap< C, ? extends R > bootstrap,
+    final Lens< C, ? super O, ? extends V > lens,
+    final Operant< C, ? super V, R > operant
+  ) {
+
+    return
+      PROVIDER.optic (
+        bootstrap,
+        lens,
+        operant
+      );
+
+  }
+
+
+  /**
+   * Returns a {@link LongBootstrap} that returns the same initial observation result for all observables.
+   *
+   * @param defValue the value to be used as the initial observation result
+   * @param <C>      the class type of the closure state
+   * @return a bootstrap that returns the same initial observation result.
+   */
+
+  public static < C > LongBootstrap< C > longBootstrap (
+    final long defValue
+  ) {
+
+    return
+      PROVIDER.longBootstrap (
+        defValue
+      );
+
+  }
+
+
+  /**
+   * Returns a {@link DoubleBootstrap} that returns the same initial observation result for all observables.
+   *
+   * @param defValue the value to be used as the initial observation result
+   * @param <C>      the class type of the closure state
+   * @return a bootstrap that returns the same initial observation result.
+   */
+
+  public static < C > DoubleBootstrap< C > doubleBootstrap (
+    final double defValue
+  ) {
+
+    return
+      PROVIDER.doubleBootstrap (
+        defValue
+      );
+
+  }
+
+
+  /**
+   * Returns a {@link LongLens} that unboxes the numeric observable object as the observed value.
+   *
+   * @param <C> the class type of the closure state
+   * @return a lens that returns the {@code long} value of the observable object
+   */
+
+  public static < C > LongLens< C, Number > longLens () {
+
+    return
+      PROVIDER.longLens ();
+
+  }
+
+
+  /**
+   * Returns a {@link LongLens} that applies the function to the observable object in creating an observed value
+   *
+   * @param func the function to be applied to the observable object
+   * @param <C>  the class type of the closure state
+   * @param <O>  the class type of the observable object
+   * @return a lens that returns the value from the supplied function
+   */
+
+  public static < C, O > LongLens< C, O > longLens (
+    final ToLongFunction< ? super O > func
+  ) {
+
+    return
+      PROVIDER.longLens (
+        func
+      );
+
+  }
+
+
+  /**
+   * Returns a {@link DoubleLens} that unboxes the numeric observable object as the observed value.
+   *
+   * @param <C> the class type of the closure state
+   * @return a lens that returns the {@code double} value of the observable object
+   */
+
+  public static < C > DoubleLens< C, Number > doubleLens () {
+
+    return
+      PROVIDER.doubleLens ();
+
+  }
+
+
+  /**
+   * Returns a {@link DoubleLens} that applies the function to the observable object in creating an observed value
+   *
+   * @param func the function to be applied to the observable object
+   * @param <C>  the class type of the closure state
+   * @param <O>  the class type of the observable object
+   * @return a lens that returns the value from the supplied function
+   */
+
+  public static < C, O > DoubleLens< C, O > doubleLens (
+    final ToDoubleFunction< ? super O > func
+  ) {
+
+    return
+      PROVIDER.doubleLens (
+        func
+      );
+
+  }
+
+
+  /**
+   * Returns a {@link LongOperant} that always returns its observed value.
+   *
+   * @param <C> the class type of the closure state
+   * @return an operant that always returns its observed value (input)
+   */
+
+  public static < C > LongOperant< C > longOperant () {
+
+    return
+      PROVIDER.longOperant ();
+
+  }
+
+
+  /**
+   * Returns a {@link LongOperant} that applies the operator to the previous observation result and newly observed value (discarding the closure state).
+   *
+   * @param operator the operator to be applied to the prev result and observed value (drops the closure)
+   * @param <C>      the class type of the closure state
+   * @return An operant that applies the operator to the prev result and newly observed value
+   */
+
+  public static < C > LongOperant< C > longOperant (
+    final LongBinaryOperator operator
+  ) {
+
+    return
+      PROVIDER.longOperant (
+        operator
+      );
+
+  }
+
+
+  /**
+   * Returns a {@link LongOperant} that applies the operator to the previous observation result (discarding both the closure state and observed value).
+   *
+   * @param operator the operator to be applied to the previous observation result
+   * @param <C>      the class type of the closure state
+   * @return An operant that applies the operator to the previous observation result
+   */
+
+  public static < C > LongOperant< C > longOperant (
+    final LongUnaryOperator operator
+  ) {
+
+    return
+      PROVIDER.longOperant (
+        operator
+      );
+
+  }
+
+
+  /**
+   * Returns a {@link DoubleOperant} that always returns its observed value.
+   *
+   * @param <C> the class type of the closure state
+   * @return an operant that always returns its observed value (input)
+   */
+
+  public static < C > DoubleOperant< C > doubleOperant () {
+
+    return
+      PROVIDER.doubleOperant ();
+
+  }
+
+
+  /**
+   * Returns a {@link DoubleOperant} that applies the operator to the previous observation result and newly observed value (discarding the closure state).
+   *
+   * @param operator the operator to be applied to the prev result and observed value (drops the closure)
+   * @param <C>      the class type of the closure state
+   * @return An operant that applies the operator to the prev result and newly observed value
+   */
+
+  public static < C > DoubleOperant< C > doubleOperant (
+    final DoubleBinaryOperator operator
+  ) {
+
+    return
+      PROVIDER.doubleOperant (
+        operator
+      );
+
+  }
+
+
+  /**
+   * Returns a {@link DoubleOperant} that applies the operator to the previous observation result (discarding both the closure state and observed value).
+   *
+   * @param operator the operator to be applied to the previous observation result
+   * @param <C>      the class type of the closure state
+   * @return An operant that applies the operator to the previous observation result
+   */
+
+  public static < C > DoubleOperant< C > doubleOperant (
+    final DoubleUnaryOperator operator
+  ) {
+
+    return
+      PROVIDER.doubleOperant (
+        operator
+      );
+
+  }
+
+
+  /**
+   * Returns a {@link LongOptic} that uses the provided {@link LongLens} to capture an observed value from an observable and return it.
+   *
+   * @param lens the lens used to capture an observed value from an observable object
+   * @param <C>  the class type of the closure state
+   * @param <O>  the class type of the observable object
+   * @return An optic that uses the provided lens to return the observed value.
+   */
+
+  public static < C, O > LongOptic< C, O > longOptic (
+    final LongLens< C, ? super O > lens
+  ) {
+
+    return
+      PROVIDER.longOptic (
+        lens
+      );
+
+  }
+
+
+  /**
+   * Returns a {@link LongOptic} that uses the numeric observable object as the observed value input into a {@link LongOperant}.
+   *
+   * @param operant the operant applied to the observed value
+   * @param <C>     the class type of the closure state
+   * @return An optic that uses the provided operant to compose an observation result from a numeric observable object
+   */
+
+  public static < C > LongOptic< C, Number > longOptic (
+    final LongOperant< C > operant
+  ) {
+
+    return
+      PROVIDER.longOptic (
+        operant
+      );
+
+  }
+
+
+  /**
+   * Returns a {@link LongOptic} that uses the provided {@link LongLens} to capture an observed value from an observable and then applies a {@link LongOperant}.
+   *
+   * @param bootstrap the bootstrap used to set up the closure state and initial observation result
+   * @param lens      the lens used to capture an observed value from an observable object
+   * @param operant   the operant applied to the observed value returned by the lens
+   * @param <C>       the class type of the closure state
+   * @param <O>       the class type of the observable object
+   * @return An optic that uses the provided bootstrap, lens and operant to perform.
+   */
+
+  public static < C, O > LongOptic< C, O > longOptic (
+    final LongBootstrap< C > bootstrap,
+    final LongLens< C, ? super O > lens,
+    final LongOperant< C > operant
+  ) {
+
+    return
+      PROVIDER.longOptic (
+        bootstrap,
+        lens,
+        operant
+      );
+
+  }
+
+
+  /**
+   * Returns a {@link DoubleOptic} that uses the provided {@link DoubleLens} to capture an observed value from an observable and return it.
+   *
+   * @param lens the lens used to capture an observed value from an observable object
+   * @param <C>  the class type of the closure state
+   * @param <O>  the class type of the observable object
+   * @return An optic that uses the provided lens to return the observed value.
+   */
+
+  public static < C, O > DoubleOptic< C, O > doubleOptic (
+    final DoubleLens< C, ? super O > lens
+  ) {
+
+    return
+      PROVIDER.doubleOptic (
+        lens
+      );
+
+  }
+
+
+  /**
+   * Returns a {@link DoubleOptic} that uses the numeric observable object as the observed value input into a {@link DoubleOperant}.
+   *
+   * @param operant the operant applied to the observed value
+   * @param <C>     the class type of the closure state
+   * @return An optic that uses the provided operant to compose an observation result from a numeric observable object
+   */
+
+  public static < C > DoubleOptic< C, Number > doubleOptic (
+    final DoubleOperant< C > operant
+  ) {
+
+    return
+      PROVIDER.doubleOptic (
+        operant
+      );
+
+  }
+
+
+  /**
+   * Returns a {@link DoubleOptic} that uses the provided {@link DoubleLens} to capture an observed value from an observable and then applies a {@link DoubleOperant}.
+   *
+   * @param bootstrap the bootstrap used to set up the closure state and initial observation result
+   * @param lens      the lens used to capture an observed value from an observable object
+   * @param operant   the operant applied to the observed value returned by the lens
+   * @param <C>       the class type of the closure state
+   * @param <O>       the class type of the observable object
+   * @return An optic that uses the provided bootstrap, lens and operant to perform.
+   */
+
+  public static < C, O > DoubleOptic< C, O > doubleOptic (
+    final DoubleBootstrap< C > bootstrap,
+    final DoubleLens< C, ? super O > lens,
+    final DoubleOperant< C > operant
+  ) {
+
+    return
+      PROVIDER.doubleOptic (
+        bootstrap,
+        lens,
+        operant
+      );
+
+  }
+
+
+  /**
+   * Returns an {@link Optic} whose bootstrap, lens (including any piped or required lenses) and operant have been
+   * compiled by the provider into a single class with a monomorphic {@link Optic#apply apply} entry point.
+   * <p>
+   * A provider unable to compile the optic returns it unchanged.
+   *
+   * @param optic the optic to be fused
+   * @param <C>   the class type of the closure state
+   * @param <O>   the class type of the observable object
+   * @param <V>   the class type of the observed value
+   * @param <R>   the class type of the observation result
+   * @return A fused optic that behaves the same as the specified optic
+   */
+
+  public static < C, O, V, R > Optic< C, O, V, R > fuse (
+    final Optic< C, O, V, R > optic
+  ) {
+
+    return
+      PROVIDER.fuse (
+        optic
+      );
+
+  }
+
+
+  /**
+   * Returns a {@link LongOptic} whose bootstrap, lens (including any piped or required lenses) and operant have been
+   * compiled by the provider into a single class with a monomorphic {@link LongOptic#apply apply} entry point.
+   * <p>
+   * A provider unable to compile the optic returns it unchanged.
+   *
+   * @param optic the optic to be fused
+   * @param <C>   the class type of the closure state
+   * @param <O>   the class type of the observable object
+   * @return A fused optic that behaves the same as the specified optic
+   */
+
+  public static < C, O > LongOptic< C, O > fuse (
+    final LongOptic< C, O > optic
+  ) {
+
+    return
+      PROVIDER.fuse (
+        optic
+      );
+
+  }
+
+
+  /**
+   * Returns a {@link DoubleOptic} whose bootstrap, lens (including any piped or required lenses) and operant have been
+   * compiled by the provider into a single class with a monomorphic {@link DoubleOptic#apply apply} entry point.
+   * <p>
+   * A provider unable to compile the optic returns it unchanged.
+   *
+   * @param optic the optic to be fused
+   * @param <C>   the class type of the closure state
+   * @param <O>   the class type of the observable object
+   * @return A fused optic that behaves the same as the specified optic
+   */
+
+  public static < C, O > DoubleOptic< C, O > fuse (
+    final DoubleOptic< C, O > optic
+  ) {
+
+    return
+      PROVIDER.fuse (
+        optic
+      );
+
+  }
+
+
+  /**
+   * Returns a {@link LongOptic} whose observation result is the sum of the observed values over a sliding window.
+   * An observed value is held for at least the duration less the width of one bucket, and for no longer than the duration.
+   *
+   * @param lens     the lens used to capture an observed value from an observable object
+   * @param duration the duration covered by the sliding window
+   * @param buckets  the number of buckets the window is divided into, which sets the granularity of its expiry
+   * @param <O>      the class type of the observable object
+   * @return An optic that sums the observed values over a sliding window
+   */
+
+  public static < O > LongOptic< Window, O > window (
+    final LongLens< Window, ? super O > lens,
+    final Duration duration,
+    final int buckets
+  ) {
+
+    return
+      PROVIDER.window (
+        lens,
+        duration,
+        buckets
+      );
+
+  }
+
+
+  /**
+   * Returns a {@link LongOptic} whose observation result is the sum of the observed values within the current
+   * tumbling window, with the sum starting again from zero at the start of each window.
+   *
+   * @param lens     the lens used to capture an observed value from an observable object
+   * @param duration the duration of each tumbling window
+   * @param <O>      the class type of the observable object
+   * @return An optic that sums the observed values within tumbling windows
+   */
+
+  public static < O > LongOptic< Window, O > tumble (
+    final LongLens< Window, ? super O > lens,
+    final Duration duration
+  ) {
+
+    return
+      PROVIDER.tumble (
+        lens,
+        duration
+      );
+
+  }
+
+
+  /**
+   * Returns a {@link DoubleOptic} whose observation result is the per-second rate of the observed values over a sliding window,
+   * being the sum of the observed values within the window divided by the duration of the window in seconds.
+   *
+   * @param lens     the lens used to capture an observed value (such as a counter increment) from an observable object
+   * @param duration the duration covered by the sliding window
+   * @param buckets  the number of buckets the window is divided into, which sets the granularity of its expiry
+   * @param <O>      the class type of the observable object
+   * @return An optic that returns the per-second rate of the observed values
+   */
+
+  public static < O > DoubleOptic< Window, O > rate (
+    final LongLens< Window, ? super O > lens,
+    final Duration duration,
+    final int buckets
+  ) {
+
+    return
+      PROVIDER.rate (
+        lens,
+        duration,
+        buckets
+      );
+
+  }
+
+
+  /**
+   * Returns a {@link DoubleOptic} whose observation result is an exponentially weighted moving average of the
+   * observed values, decaying with the time elapsed between observations. The time of the last observation is
+   * held in the {@linkplain Closure#asLong() primitive slot} of the closure, leaving the closure state untouched.
+   *
+   * @param lens     the lens used to capture an observed value from an observable object
+   * @param halfLife the elapsed time after which the weight of past observations is halved
+   * @param <C>      the class type of the closure state
+   * @param <O>      the class type of the observable object
+   * @return An optic that returns a time decaying average of the observed values
+   * @throws IllegalArgumentException if {@code halfLife} is not positive
+   */
+
+  public static < C, O > DoubleOptic< C, O > ewma (
+    final DoubleLens< C, ? super O > lens,
+    final Duration halfLife
+  ) {
+
+    return
+      PROVIDER.ewma (
+        lens,
+        halfLife
+      );
+
+  }
+
+
+  /**
+   * Returns a {@link DoubleOptic} whose observation result is an estimate of the value at a quantile of all observed values.
+   *
+   * @param lens     the lens used to capture an observed value from an observable object
+   * @param quantile the quantile within {@code [0.0, 1.0]} to be estimated
+   * @param accuracy the relative error bound of the estimate, such as {@code 0.01}, which sets the size of the sketch
+   * @param <O>      the class type of the observable object
+   * @return An optic that estimates the value at a quantile of the observed values
+   */
+
+  public static < O > DoubleOptic< Sketch, O > quantile (
+    final DoubleLens< Sketch, ? super O > lens,
+    final double quantile,
+    final double accuracy
+  ) {
+
+    return
+      PROVIDER.quantile (
+        lens,
+        quantile,
+        accuracy
+      );
+
+  }
+
+
+  /**
+   * Returns an {@link Optic} whose observation result is a {@link Sketch} of all values observed by an observer.
+   * <p>
+   * The sketch returned as the result is updated in place. The observable is passed through unchanged as the
+   * observed value, with the operant applying the lens and recording its primitive value, so that recording an
+   * observed value neither boxes nor allocates. A subscriber retaining an emitted sketch beyond the emission
+   * should retain a {@linkplain Sketch#copy() copy}. How such a result takes part in change detection is
+   * described for {@link Sketch}.
+   *
+   * @param lens     the lens used to capture an observed value from an observable object
+   * @param accuracy the relative error bound of the quantile estimates, such as {@code 0.01}, which sets the size of the sketch
+   * @param <C>      the class type of the closure state
+   * @param <O>      the class type of the observable object
+   * @return An optic that records the observed values within a sketch
+   * @see Context#reduce(Name, Object, BiFunction)
+   */
+
+  public static < C, O > Optic< C, O, O, Sketch > sketch (
+    final DoubleLens< C, ? super O > lens,
+    final double accuracy
+  ) {
+
+    return
+      PROVIDER.sketch (
+        lens,
+        accuracy
+      );
+
+  }
+
+
+  /**
+   * Returns a new, empty {@link Sketch} owned by the caller, such as for use as the container into which
+   * the sketches of many observers are accumulated.
+   *
+   * @param accuracy the relative error bound of the quantile estimates, such as {@code 0.01}, which sets the size of the sketch
+   * @return A new, empty sketch
+   * @see Context#reduce(Name, Object, BiFunction)
+   */
+
+  public static Sketch sketch (
+    final double accuracy
+  ) {
+
+    return
+      PROVIDER.sketch (
+        accuracy
+      );
+
+  }
+
+
+  /**
+   * Returns an {@link Aggregate} that cannot be inverted, being recombined from immediate children on each change.
+   *
+   * @param identity the aggregate of no observation results
+   * @param combiner the associative function used to merge two aggregates, a result being its own aggregate
+   * @param <R>      the class type of the observation result
+   * @return An aggregate that uses the specified identity and combiner
+   */
+
+  public static < R > Aggregate< R > aggregate (
+    final R identity,
+    final BinaryOperator< R > combiner
+  ) {
+
+    return
+      PROVIDER.aggregate (
+        identity,
+        combiner
+      );
+
+  }
+
+
+  /**
+   * Returns an {@link Aggregate} that is inverted using the specified retractor when an observation result changes.
+   *
+   * @param identity  the aggregate of no observation results
+   * @param combiner  the associative function used to merge two aggregates, a result being its own aggregate
+   * @param retractor the function used to remove a previously merged aggregate from an aggregate
+   * @param <R>       the class type of the observation result
+   * @return An aggregate that uses the specified identity, combiner and retractor
+   */
+
+  public static < R > Aggregate< R > aggregate (
+    final R identity,
+    final BinaryOperator< R > combiner,
+    final BinaryOperator< R > retractor
+  ) {
+
+    return
+      PROVIDER.aggregate (
+        identity,
+        combiner,
+        retractor
+      );
+
+  }
+
+
+  /**
+   * Returns an {@link Aggregate} that sums the observation results.
+   *
+   * @return An aggregate that sums the observation results
+   */
+
+  public static Aggregate< Long > sum () {
+
+    return
+      PROVIDER.sum ();
+
+  }
+
+
+  /**
+   * Returns an {@link Aggregate} that counts the observation results, lifting each result into a count of one
+   * and summing counts, so that the observers within a prefix are counted rather than its immediate children.
+   *
+   * @return An aggregate that counts the observation results
+   */
+
+  public static Aggregate< Long > count () {
+
+    return
+      PROVIDER.count ();
+
+  }
+
+
+  /**
+   * Returns an {@link Aggregate} that keeps the smallest of the observation results,
+   * with a prefix level within which no observer has a result having no result (null).
+   *
+   * @return An aggregate that keeps the smallest observation result
+   */
+
+  public static Aggregate< Long > min () {
+
+    return
+      PROVIDER.min ();
+
+  }
+
+
+  /**
+   * Returns an {@link Aggregate} that keeps the largest of the observation results,
+   * with a prefix level within which no observer has a result having no result (null).
+   *
+   * @return An aggregate that keeps the largest observation result
+   */
+
+  public static Aggregate< Long > max () {
+
+    return
+      PROVIDER.max ();
+
+  }
+
+
+  /**
+   * Creates a roll-up {@link Context} whose observers are mapped to the name prefixes of the observers within
+   * another context, with each one's observation result being the aggregate of the results within its prefix.
+   * <p>
+   * The aggregates of all prefix levels are updated incrementally as the observers within the other context emit,
+   * so observing the aggregate of a prefix costs the same regardless of the number of observers within it.
+   * An observer removed from, or {@linkplain #OBSERVER_LIMIT evicted} by, the other context has its result
+   * retracted from the aggregates of its prefix levels.
+   *
+   * @param context     the context whose observation results are rolled up
+   * @param aggregate   the aggregate maintained at each name prefix level
+   * @param environment the environment used to configure the context
+   * @param <R>         the class type of the observation result
+   * @return A context that rolls up the observation results of another context by name prefix
+   */
+
+  public static < R > Context< R > rollup (
+    final Context< R > context,
+    final Aggregate< R > aggregate,
+    final Environment environment
+  ) {
+
+    return
+      PROVIDER.rollup (
+        context,
+        aggregate,
+        environment
+      );
+
+  }
+
+
+  /**
+   * Returns a {@link LongCodec} for {@code Long} values.
+   *
+   * @return A codec for {@code Long} values
+   */
+
+  public static LongCodec longCodec () {
+
+    return
+      PROVIDER.longCodec ();
+
+  }
+
+
+  /**
+   * Returns a {@link DoubleCodec} for {@code Double} values.
+   *
+   * @return A codec for {@code Double} values
+   */
+
+  public static DoubleCodec doubleCodec () {
+
+    return
+      PROVIDER.doubleCodec ();
+
+  }
+
+
+  /**
+   * Returns a {@link Codec} for {@code String} values, which are encoded in UTF-8.
+   *
+   * @return A codec for {@code String} values
+   */
+
+  public static Codec< String > stringCodec () {
+
+    return
+      PROVIDER.stringCodec ();
+
+  }
+
+
+  /**
+   * Returns an {@link Optic} that behaves the same as the specified optic but that also carries the codecs
+   * needed by a context to write and read its closure state and observation results outside of the heap.
+   *
+   * @param optic   the optic to be encoded
+   * @param closure the codec used for the closure state
+   * @param result  the codec used for the observation result
+   * @param <C>     the class type of the closure state
+   * @param <O>     the class type of the observable object
+   * @param <V>     the class type of the observed value
+   * @param <R>     the class type of the observation result
+   * @return An optic carrying the specified codecs
+   * @see #PERSISTENCE
+   */
+
+  public static < C, O, V, R > Optic< C, O, V, R > encoded (
+    final Optic< C, O, V, R > optic,
+    final Codec< C > closure,
+    final Codec< R > result
+  ) {
+
+    return
+      PROVIDER.encoded (
+        optic,
+        closure,
+        result
+      );
+
+  }
+
+
+  /**
+   * Returns a {@link LongOptic} that behaves the same as the specified optic but that also carries the codec
+   * needed by a context to write and read its reference closure state outside of the heap.
+   *
+   * @param optic   the optic to be encoded
+   * @param closure the codec used for the closure state
+   * @param <C>     the class type of the closure state
+   * @param <O>     the class type of the observable object
+   * @return An optic carrying the specified codec
+   * @see #PERSISTENCE
+   */
+
+  public static < C, O > LongOptic< C, O > encoded (
+    final LongOptic< C, O > optic,
+    final Codec< C > closure
+  ) {
+
+    return
+      PROVIDER.encoded (
+        optic,
+        closure
+      );
+
+  }
+
+
+  /**
+   * Returns a {@link DoubleOptic} that behaves the same as the specified optic but that also carries the codec
+   * needed by a context to write and read its reference closure state outside of the heap.
+   *
+   * @param optic   the optic to be encoded
+   * @param closure the codec used for the closure state
+   * @param <C>     the class type of the closure state
+   * @param <O>     the class type of the observable object
+   * @return An optic carrying the specified codec
+   * @see #PERSISTENCE
+   */
+
+  public static < C, O > DoubleOptic< C, O > encoded (
+    final DoubleOptic< C, O > optic,
+    final Codec< C > closure
+  ) {
 
-    < C, V > V observe (
-      Lens< C, ? super R, V > lens,
-      Closure< C > closure
-    );
+    return
+      PROVIDER.encoded (
+        optic,
+        closure
+      );
 
   }
 
 
   /**
-   * An interface that allows an {@link Optic} to manage state across multiple observations of the same observable.
+   * Creates an {@link Encoder} that writes observation results to the channel in frames of the specified size.
    *
-   * @param <T> the class type of the state managed by the closure
-   * @see Bootstrap
-   * @see Lens
-   * @see Operant
-   * @see Optic
+   * @param channel   the channel, such as a {@code FileChannel}, to which frames are written
+   * @param codec     the codec used for the observation results
+   * @param frameSize the size in bytes of the reusable frame buffer
+   * @param <R>       the class type of the observation result
+   * @return An encoder writing to the specified channel
    */
 
-  public interface Closure< T > {
+  public static < R > Encoder< R > encoder (
+    final WritableByteChannel channel,
+    final Codec< R > codec,
+    final int frameSize
+  ) {
 
-    /**
-     * Sets the value of the state managed by this closure.
-     *
-     * @param value the new state of the closure
-     */
+    return
+      PROVIDER.encoder (
+        channel,
+        codec,
+        frameSize
+      );
 
-    void set (
-      T value
-    );
+  }
 
 
-    /**
-     * Returns the current state managed by this closure.
-     *
-     * @return the current value of the state
-     */
+  /**
+   * Creates a {@link Decoder} that reads the frames written by an {@link Encoder} using the same codec.
+   *
+   * @param channel the channel from which frames are read
+   * @param codec   the codec used for the observation results
+   * @param <R>     the class type of the observation result
+   * @return A decoder reading from the specified channel
+   */
 
-    T get ();
+  public static < R > Decoder< R > decoder (
+    final ReadableByteChannel channel,
+    final Codec< R > codec
+  ) {
+
+    return
+      PROVIDER.decoder (
+        channel,
+        codec
+      );
 
   }
 
 
   /**
-   * An interface that allows for the setting up of the {@link Closure} state and/or the initial observation result.
+   * Starts the recording of the raw events emitted by the source to the channel.
    *
-   * @param <C> the class type of the closure state
-   * @param <R> the class type of the initial result
-   * @see Optic
+   * @param source  the source whose events are recorded
+   * @param codec   the codec used for the emittances
+   * @param channel the channel, such as a {@code FileChannel}, to which events are written
+   * @param <E>     the class type of the emittance
+   * @return A recording that can be closed to stop recording
    */
 
-  @FunctionalInterface
-  public interface Bootstrap< C, R > {
-
-    /**
-     * A method used to initialize the {@link Closure } and set an initial (default) observation result.
-     *
-     * @param name    the name of the observer
-     * @param closure the closure associated with the observable object
-     * @return the initial observation result
-     */
+  public static < E > Recording record (
+    final Source< E > source,
+    final Codec< E > codec,
+    final WritableByteChannel channel
+  ) {
 
-    R initialize (
-      Closure< C > closure,
-      Name name
-    );
+    return
+      PROVIDER.record (
+        source,
+        codec,
+        channel
+      );
 
   }
 
 
   /**
-   * An interface used to capture an observed value from an observable object (referent or emittance).
+   * Creates a {@link Replay} of the events recorded to the channel, starting at its current position.
    *
-   * @param <C> the class type of the closure state
-   * @param <O> the class type of the observable object
-   * @param <V> the class type of the observed value
+   * @param channel the channel, such as a {@code FileChannel}, from which the recorded events are read on each play
+   * @param codec   the codec used for the emittances
+   * @param <E>     the class type of the emittance
+   * @return A source that re-emits the recorded events when played
    */
 
-  @FunctionalInterface
-  public interface Lens< C, O, V > {
-
-    /**
-     * Capture an observed value from an observable object.
-     *
-     * @param closure    the closure associated with the observable object
-     * @param observable the observable object
-     * @return The observed value captured
-     */
+  public static < E > Replay< E > replay (
+    final SeekableByteChannel channel,
+    final Codec< E > codec
+  ) {
 
-    V capture (
-      final Closure< C > closure,
-      final O observable
-    );
+    return
+      PROVIDER.replay (
+        channel,
+        codec
+      );
 
+  }
 
-    /**
-     * Returns a lens that first applies this lens and then the specified `after` lens
-     *
-     * @param after the lens to be applied after the capture from this lens
-     * @param <T>   the class type of the post-capture lens observation result
-     * @return A lens that firsts applies this lens and then the `after` lens
-     */
 
-    default < T > Lens< C, O, T > pipe (
-      final Lens< C, ? super V, ? extends T > after
-    ) {
+  /**
+   * Creates a {@link Scheduler} configured using the environment.
+   *
+   * @param environment the environment used to configure the scheduler
+   * @return A scheduler that must be closed when no longer needed
+   * @see #SCHEDULER_TICK
+   * @see #SCHEDULER_JITTER
+   * @see #EXECUTION
+   */
 
-      return
-        ( closure, observable ) ->
-          after.capture (
-            closure,
-            capture (
-              closure,
-              observable
-            )
-          );
+  public static Scheduler scheduler (
+    final Environment environment
+  ) {
 
-    }
+    return
+      PROVIDER.scheduler (
+        environment
+      );
 
+  }
 
-    /**
-     * Returns a lens that first tests a predicate before performing the capture with this lens.
-     *
-     * @param predicate the predicate to be called in determining whether to apply the lens
-     * @return A lens that firsts checks a predicate before the lens is applied to the target
-     */
 
-    default Lens< C, O, V > require (
-      final Predicate< ? super O > predicate
-    ) {
+  /**
+   * Returns a {@link Sampling} policy that observes at the same period regardless of change.
+   *
+   * @param period the period between observations
+   * @return A sampling policy with a fixed period
+   * @throws IllegalArgumentException if {@code period} is not positive
+   */
 
-      return
-        ( closure, observable ) ->
-          predicate.test ( observable )
-          ? capture ( closure, observable )
-          : null;
+  public static Sampling fixed (
+    final Duration period
+  ) {
 
-    }
+    return
+      PROVIDER.fixed (
+        period
+      );
 
   }
 
 
   /**
-   * An interface that is used to compose an observation using a closure (past state) and the latest observed value.
+   * Returns a {@link Sampling} policy that backs off the observation of stable observers and speeds up the observation
+   * of changing ones. An observation without change multiplies the period by the backoff factor up to the maximum,
+   * whereas an observation with change resets the period to the minimum, bounding the latency of change detection.
    *
-   * @param <C> the class type of the closure state
-   * @param <V> the class type of the observed value
-   * @param <R> the class type of the observation result
+   * @param min     the shortest period, which is used following a change
+   * @param max     the longest period, which is reached by stable observers
+   * @param backoff the factor, greater than {@code 1.0}, by which the period grows on each observation without change
+   * @return A sampling policy adapting its period to the volatility of the observation results
+   * @throws IllegalArgumentException if {@code min} is not positive, {@code min} is greater than {@code max} or
+   *                                  {@code backoff} is not greater than {@code 1.0}
    */
 
-  @FunctionalInterface
-  public interface Operant< C, V, R > {
-
-    /**
-     * Returns an observation result based on the new observed value and closure state
-     *
-     * @param closure the closure associated with the observable object
-     * @param prev    the previous observation result
-     * @param value   the latest observed value captured from the observable object
-     * @return An observation result based on the new observed value and closure state
-     */
+  public static Sampling adaptive (
+    final Duration min,
+    final Duration max,
+    final double backoff
+  ) {
 
-    R compose (
-      Closure< C > closure,
-      R prev,
-      V value
-    );
+    return
+      PROVIDER.adaptive (
+        min,
+        max,
+        backoff
+      );
 
   }
 
 
   /**
-   * An interface that combines {@link Bootstrap}, {@link Lens}, and {@link Operant} interfaces.
+   * Returns an {@link AsyncLens} that runs the synchronous lens on a virtual thread, or where virtual threads are
+   * not supported on the common {@code ForkJoinPool}, so that a lens performing blocking I/O does not stall the caller.
    *
-   * @param <C> the class type of the closure state
-   * @param <O> the class type of the observable object
-   * @param <V> the class type of the observed value
-   * @param <R> the class type of the observation result
+   * @param lens the synchronous lens to be run asynchronously
+   * @param <C>  the class type of the closure state
+   * @param <O>  the class type of the observable object
+   * @param <V>  the class type of the observed value
+   * @return An asynchronous lens running the specified lens
    */
 
-  public interface Optic< C, O, V, R >
-    extends Bootstrap< C, R >,
-            Lens< C, O, V >,
-            Operant< C, V, R >,
-            Substrate {
+  public static < C, O, V > AsyncLens< C, O, V > asyncLens (
+    final Lens< C, ? super O, ? extends V > lens
+  ) {
+
+    return
+      PROVIDER.asyncLens (
+        lens
+      );
 
   }
 
 
   /**
-   * Returns a {@link Bootstrap} that returns {@code null} as the initial observation result for all observables.
+   * Returns an {@link AsyncOptic} that uses the provided {@link AsyncLens} to capture an observed value from an observable and return it.
    *
-   * @param <C> the class type of the closure state
-   * @param <R> the class type of the observation result
-   * @return A bootstrap that returns {@code null} as the initial observation result.
+   * @param lens    the lens used to capture an observed value from an observable object
+   * @param timeout the maximum time a capture can take
+   * @param <C>     the class type of the closure state
+   * @param <O>     the class type of the observable object
+   * @param <V>     the class type of the observed value
+   * @return An optic that uses the provided lens to return the observed value.
    */
 
-  public static < C, R > Bootstrap< C, R > bootstrap () {
+  public static < C, O, V > AsyncOptic< C, O, V, V > asyncOptic (
+    final AsyncLens< C, ? super O, ? extends V > lens,
+    final Duration timeout
+  ) {
 
     return
-      PROVIDER.bootstrap ();
+      PROVIDER.asyncOptic (
+        lens,
+        timeout
+      );
 
   }
 
 
   /**
-   * Returns a {@link Bootstrap} that returns the same initial observation result for all observables.
+   * Returns an {@link AsyncOptic} that uses the provided {@link AsyncLens} to capture an observed value from an observable and then applies an {@link Operant}.
    *
-   * @param defValue the value to be used as the initial observation result
-   * @param <C>      the class type of the closure state
-   * @param <R>      the class type of the observation result
-   * @return a bootstrap that returns the same initial observation result.
+   * @param bootstrap the bootstrap used to set up the closure state and initial observation result
+   * @param lens      the lens used to capture an observed value from an observable object
+   * @param operant   the operant applied to the observed value returned by the lens
+   * @param timeout   the maximum time a capture can take
+   * @param <C>       the class type of the closure state
+   * @param <O>       the class type of the observable object
+   * @param <V>       the class type of the observed value
+   * @param <R>       the class type of the observation result
+   * @return An optic that uses the provided bootstrap, lens and operant to perform.
    */
 
-  public static < C, R > Bootstrap< C, R > bootstrap (
-    final R defValue
+  public static < C, O, V, R > AsyncOptic< C, O, V, R > asyncOptic (
+    final Bootstrap< C, ? extends R > bootstrap,
+    final AsyncLens< C, ? super O, ? extends V > lens,
+    final Operant< C, ? super V, R > operant,
+    final Duration timeout
   ) {
 
     return
-      PROVIDER.bootstrap (
-        defValue
+      PROVIDER.asyncOptic (
+        bootstrap,
+        lens,
+        operant,
+        timeout
       );
 
   }
 
 
   /**
-   * Returns a {@link Lens} that always returns its observable object.
+   * Creates a pull-based {@link Context} that sources the observables of {@link Observer observers} on-demand from a mapping {@code Function}.
    *
-   * @param <C> the class type of the closure state
-   * @param <O> the class type of the observable object
-   * @return a lens that always returns its observable object
+   * @param fn          the function used for mapping from name to observable objects
+   * @param optic       the optic used to capture and compose observed values into an observation result
+   * @param environment the environment used to configure the context
+   * @param <C>         the class type of the closure state
+   * @param <O>         the class type of the observable object
+   * @param <V>         the class type of the observed value
+   * @param <R>         the class type of the observation result
+   * @return A context that sources observers from a {@code Container}.
    */
 
-  public static < C, O > Lens< C, O, O > lens () {
+  public static < C, O, V, R > Context< R > context (
+    final Function< ? super Name, O > fn,
+    final Optic< C, ? super O, ? super V, R > optic,
+    final Environment environment
+  ) {
 
     return
-      PROVIDER.lens ();
+      PROVIDER.context (
+        fn,
+        optic,
+        environment
+      );
 
   }
 
 
   /**
-   * Returns a {@link Lens} that applies the function to the observable object in creating an observed value
+   * Creates a pull-based {@link Context} that sources the observables of {@link Observer observers} on-demand from a {@code Lookup}.
    *
-   * @param <C> the class type of the closure state
-   * @param <O> the class type of the observable object
-   * @param <V> the class type of the observed value (input)
-   * @return a lens that returns the value from the supplied function
+   * @param lookup      the source lookup of the observable objects
+   * @param optic       the optic used to capture and compose observed values into an observation result
+   * @param environment the environment used to configure the context
+   * @param <C>         the class type of the closure state
+   * @param <O>         the class type of the observable object
+   * @param <V>         the class type of the observed value
+   * @param <R>         the class type of the observation result
+   * @return A context that sources observers from a {@code Container}.
    */
 
-  public static < C, O, V > Lens< C, O, V > lens (
-    final Function< ? super O, ? extends V > func
+  public static < C, O, V, R > Context< R > context (
+    final Lookup< O > lookup,
+    final Optic< C, ? super O, ? super V, R > optic,
+    final Environment environment
   ) {
 
     return
-      PROVIDER.lens (
-        func
+      PROVIDER.context (
+        lookup,
+        optic,
+        environment
       );
 
   }
 
-
   /**
-   * Returns a {@link Lens} that returns the observable object if the predicate succeeds otherwise {@code null}.
+   * Creates a pull-based {@link Context} that sources {@link Observer observers} from a {@code Container}.
    *
-   * @param predicate the predicate to be tested against the observable
-   * @param <C>       the class type of the closure state
-   * @param <O>       the class type of the observable object
-   * @return a lens that returns the observable object if the predicate succeeds otherwise {@code null}
+   * @param container   the source container of the observable objects
+   * @param optic       the optic used to capture and compose observed values into an observation result
+   * @param environment the environment used to configure the context
+   * @param <C>         the class type of the closure state
+   * @param <O>         the class type of the observable object
+   * @param <V>         the class type of the observed value
+   * @param <R>         the class type of the observation result
+   * @return A context that sources observers from a {@code Container}.
    */
 
-  public static < C, O > Lens< C, O, O > lens (
-    final Predicate< ? super O > predicate
+  public static < C, O extends Component, V, R > Context< R > context (
+    final Container< O > container,
+    final Optic< C, ? super O, ? super V, R > optic,
+    final Environment environment
   ) {
 
     return
-      PROVIDER.lens (
-        predicate
+      PROVIDER.context (
+        container,
+        optic,
+        environment
       );
 
   }
 
 
   /**
-   * Returns an {@link Operant} that always returns its observed value.
+   * Creates a push-based {@link Context} that sources {@link Observer observers} from a {@code Source}
+   * using the {@code Subscriber}, {@code Outlet}, and {@code Subscription} interfaces.
    *
-   * @param <C> the class type of the closure state
-   * @param <V> the class type of both the observed value (input) and observation result (output)
-   * @return an operant that always returns its observed value (input)
+   * @param source      the source emitting observables (events)
+   * @param selector    the selector used to select a referent or emittance from an outlet callback
+   * @param optic       the optic used to capture and compose observed values into an observation result
+   * @param environment the environment used to configure the context
+   * @param <E>         the class type of the observable events
+   * @param <C>         the class type of the closure state
+   * @param <O>         the class type of the observable object
+   * @param <V>         the class type of the observed value
+   * @param <R>         the class type of the observation result
+   * @return A context that sources observers from a {@code Container}.
    */
 
-  public static < C, V > Operant< C, V, V > operant () {
+  public static < C, E, O, V, R > Context< R > context (
+    final Source< E > source,
+    final Function< ? super Event< E >, O > selector,
+    final Optic< C, ? super O, ? super V, R > optic,
+    final Environment environment
+  ) {
 
     return
-      PROVIDER.operant ();
+      PROVIDER.context (
+        source,
+        selector,
+        optic,
+        environment
+      );
 
   }
 
 
   /**
-   * Returns an {@link Operant} that applies the function to the previous observation result and newly observed value (discarding the closure state).
+   * Creates a pull-based {@link Context} that sources the observables of {@link Observer observers} on-demand from a mapping {@code Function},
+   * capturing observed values asynchronously so that a slow observable does not block {@link Observer#observeAsync()}.
    *
-   * @param func the function to be applied to the prev result and observed value (drops the closure)
-   * @param <C>  the class type of the closure state
-   * @param <V>  the class type of the observed value
-   * @param <R>  the class type of the observation result
-   * @return An operant that applies the function to the prev result and newly observed value
+   * @param fn          the function used for mapping from name to observable objects
+   * @param optic       the asynchronous optic used to capture and compose observed values into an observation result
+   * @param environment the environment used to configure the context
+   * @param <C>         the class type of the closure state
+   * @param <O>         the class type of the observable object
+   * @param <V>         the class type of the observed value
+   * @param <R>         the class type of the observation result
+   * @return A context that sources observers from a mapping {@code Function}.
    */
 
-  public static < C, V, R > Operant< C, V, R > operant (
-    final BiFunction< ? super R, ? super V, ? extends R > func
+  public static < C, O, V, R > Context< R > context (
+    final Function< ? super Name, O > fn,
+    final AsyncOptic< C, ? super O, ? super V, R > optic,
+    final Environment environment
   ) {
 
     return
-      PROVIDER.operant (
-        func
+      PROVIDER.context (
+        fn,
+        optic,
+        environment
       );
 
   }
 
 
   /**
-   * Returns an {@link Operant} that applies the operator to the previous observation result (discarding both the closure state and observed value).
+   * Creates a pull-based {@link Context} that sources the observables of {@link Observer observers} on-demand from a {@code Lookup},
+   * capturing observed values asynchronously so that a slow observable does not block {@link Observer#observeAsync()}.
    *
-   * @param operator the operator to be applied to the previous observation result
-   * @param <C>      the class type of the closure state
-   * @param <V>      the class type of the observed value
-   * @param <R>      the class type of the observation result
-   * @return An operant that applies the operator to the previous observation result
+   * @param lookup      the source lookup of the observable objects
+   * @param optic       the asynchronous optic used to capture and compose observed values into an observation result
+   * @param environment the environment used to configure the context
+   * @param <C>         the class type of the closure state
+   * @param <O>         the class type of the observable object
+   * @param <V>         the class type of the observed value
+   * @param <R>         the class type of the observation result
+   * @return A context that sources observers from a {@code Lookup}.
    */
 
-  public static < C, V, R > Operant< C, V, R > operant (
-    final UnaryOperator< R > operator
+  public static < C, O, V, R > Context< R > context (
+    final Lookup< O > lookup,
+    final AsyncOptic< C, ? super O, ? super V, R > optic,
+    final Environment environment
   ) {
 
     return
-      PROVIDER.operant (
-        operator
+      PROVIDER.context (
+        lookup,
+        optic,
+        environment
       );
 
   }
 
 
   /**
-   * Returns an {@link Operant} that applies the function to the newly observed value (discarding the closure and previous value).
+   * Creates a pull-based {@link Context} that sources the observables of {@link Observer observers} on-demand from a {@code Container},
+   * capturing observed values asynchronously so that a slow observable does not block {@link Observer#observeAsync()}.
    *
-   * @param func the function to be applied to the newly observed value
-   * @param <C>  the class type of the closure state
-   * @param <V>  the class type of the observed value
-   * @param <R>  the class type of the observation result
-   * @return An operant that applies the function to the newly observed value
+   * @param container   the source container of the observable objects
+   * @param optic       the asynchronous optic used to capture and compose observed values into an observation result
+   * @param environment the environment used to configure the context
+   * @param <C>         the class type of the closure state
+   * @param <O>         the class type of the observable object
+   * @param <V>         the class type of the observed value
+   * @param <R>         the class type of the observation result
+   * @return A context that sources observers from a {@code Container}.
    */
 
-  public static < C, V, R > Operant< C, V, R > operant (
-    final Function< ? super V, ? extends R > func
+  public static < C, O extends Component, V, R > Context< R > context (
+    final Container< O > container,
+    final AsyncOptic< C, ? super O, ? super V, R > optic,
+    final Environment environment
   ) {
 
     return
-      PROVIDER.operant (
-        func
+      PROVIDER.context (
+        container,
+        optic,
+        environment
       );
 
   }
 
+
   /**
-   * Returns an {@link Optic} that returns the observable as the observation result.
+   * Creates a pull-based {@link LongContext} that sources the observables of {@link LongObserver observers} on-demand from a mapping {@code Function}.
    *
-   * @param <C> the class type of the closure state
-   * @param <O> the class type of the observable object
-   * @return An optic that returns the observable as the observation result.
+   * @param fn          the function used for mapping from name to observable objects
+   * @param optic       the optic used to capture and compose observed values into a {@code long} observation result
+   * @param environment the environment used to configure the context
+   * @param <C>         the class type of the closure state
+   * @param <O>         the class type of the observable object
+   * @return A context that sources observers from a mapping {@code Function}.
    */
 
-  public static < C, O > Optic< C, O, O, O > optic () {
+  public static < C, O > LongContext context (
+    final Function< ? super Name, O > fn,
+    final LongOptic< C, ? super O > optic,
+    final Environment environment
+  ) {
 
     return
-      PROVIDER.optic ();
+      PROVIDER.context (
+        fn,
+        optic,
+        environment
+      );
 
   }
 
 
   /**
-   * Returns an {@link Optic} that uses the provided {@link Lens} to capture an observed value from an observable and return it.
+   * Creates a pull-based {@link LongContext} that sources the observables of {@link LongObserver observers} on-demand from a {@code Lookup}.
    *
-   * @param lens the lens used to capture an observed value from an observable object
-   * @param <C>  the class type of the closure state
-   * @param <O>  the class type of the observable object
-   * @param <V>  the class type of the observed value
-   * @return An optic that uses the provided lens and operant to perform to return the observed value.
+   * @param lookup      the source lookup of the observable objects
+   * @param optic       the optic used to capture and compose observed values into a {@code long} observation result
+   * @param environment the environment used to configure the context
+   * @param <C>         the class type of the closure state
+   * @param <O>         the class type of the observable object
+   * @return A context that sources observers from a {@code Lookup}.
    */
 
-  public static < C, O, V > Optic< C, O, V, V > optic (
-    final Lens< C, ? super O, ? extends V > lens
+  public static < C, O > LongContext context (
+    final Lookup< O > lookup,
+    final LongOptic< C, ? super O > optic,
+    final Environment environment
   ) {
 
     return
-      PROVIDER.optic (
-        lens
+      PROVIDER.context (
+        lookup,
+        optic,
+        environment
       );
 
   }
 
 
   /**
-   * Returns an {@link Optic} that uses the provided uses the observable object as the observed value input into an {@link Operant}.
+   * Creates a pull-based {@link LongContext} that sources {@link LongObserver observers} from a {@code Container}.
    *
-   * @param operant the operant applied to the observable object
-   * @param <C>     the class type of the closure state
-   * @param <V>     the class type of the observable and observed value
-   * @param <R>     the class type of the observation result
-   * @return An optic that uses the provided operant to compose an observation result from an observable object
+   * @param container   the source container of the observable objects
+   * @param optic       the optic used to capture and compose observed values into a {@code long} observation result
+   * @param environment the environment used to configure the context
+   * @param <C>         the class type of the closure state
+   * @param <O>         the class type of the observable object
+   * @return A context that sources observers from a {@code Container}.
    */
 
-  public static < C, V, R > Optic< C, V, V, R > optic (
-    final Operant< C, ? super V, R > operant
+  public static < C, O extends Component > LongContext context (
+    final Container< O > container,
+    final LongOptic< C, ? super O > optic,
+    final Environment environment
   ) {
 
     return
-      PROVIDER.optic (
-        operant
+      PROVIDER.context (
+        container,
+        optic,
+        environment
       );
 
   }
 
 
   /**
-   * Returns an {@link Optic} that uses the provided {@link Lens} to capture an observed value from an observable and then applies an {@link Operant}.
+   * Creates a push-based {@link LongContext} that sources {@link LongObserver observers} from a {@code Source}
+   * folding each emittance into unboxed {@code long} observation results.
    *
-   * @param lens    the lens used to capture an observed value from an observable object
-   * @param operant the operant applied to the observed value returned by the lens
-   * @param <C>     the class type of the closure state
-   * @param <O>     the class type of the observable object
-   * @param <V>     the class type of the observed value
-   * @param <R>     the class type of the observation result
-   * @return An optic that uses the provided lens and operant to perform.
+   * @param source      the source emitting observables (events)
+   * @param selector    the selector used to select a referent or emittance from an outlet callback
+   * @param optic       the optic used to capture and compose observed values into a {@code long} observation result
+   * @param environment the environment used to configure the context
+   * @param <E>         the class type of the observable events
+   * @param <C>         the class type of the closure state
+   * @param <O>         the class type of the observable object
+   * @return A context that sources observers from a {@code Source}.
    */
 
-  public static < C, O, V, R > Optic< C, O, V, R > optic (
-    final Bootstrap< C, ? extends R > bootstrap,
-    final Lens< C, ? super O, ? extends V > lens,
-    final Operant< C, ? super V, R > operant
+  public static < C, E, O > LongContext context (
+    final Source< E > source,
+    final Function< ? super Event< E >, O > selector,
+    final LongOptic< C, ? super O > optic,
+    final Environment environment
   ) {
 
     return
-      PROVIDER.optic (
-        bootstrap,
-        lens,
-        operant
+      PROVIDER.context (
+        source,
+        selector,
+        optic,
+        environment
       );
 
   }
 
-
   /**
-   * Creates a pull-based {@link Context} that sources the observables of {@link Observer observers} on-demand from a mapping {@code Function}.
+   * Creates a pull-based {@link DoubleContext} that sources the observables of {@link DoubleObserver observers} on-demand from a mapping {@code Function}.
    *
    * @param fn          the function used for mapping from name to observable objects
-   * @param optic       the optic used to capture and compose observed values into an observation result
+   * @param optic       the optic used to capture and compose observed values into a {@code double} observation result
    * @param environment the environment used to configure the context
    * @param <C>         the class type of the closure state
    * @param <O>         the class type of the observable object
-   * @param <V>         the class type of the observed value
-   * @param <R>         the class type of the observation result
-   * @return A context that sources observers from a {@code Container}.
+   * @return A context that sources observers from a mapping {@code Function}.
    */
 
-  public static < C, O, V, R > Context< R > context (
+  public static < C, O > DoubleContext context (
     final Function< ? super Name, O > fn,
-    final Optic< C, ? super O, ? super V, R > optic,
+    final DoubleOptic< C, ? super O > optic,
     final Environment environment
   ) {
 
@@ -585,21 +4162,19 @@ public final class Observers {
 
 
   /**
-   * Creates a pull-based {@link Context} that sources the observables of {@link Observer observers} on-demand from a {@code Lookup}.
+   * Creates a pull-based {@link DoubleContext} that sources the observables of {@link DoubleObserver observers} on-demand from a {@code Lookup}.
    *
    * @param lookup      the source lookup of the observable objects
-   * @param optic       the optic used to capture and compose observed values into an observation result
+   * @param optic       the optic used to capture and compose observed values into a {@code double} observation result
    * @param environment the environment used to configure the context
    * @param <C>         the class type of the closure state
    * @param <O>         the class type of the observable object
-   * @param <V>         the class type of the observed value
-   * @param <R>         the class type of the observation result
-   * @return A context that sources observers from a {@code Container}.
+   * @return A context that sources observers from a {@code Lookup}.
    */
 
-  public static < C, O, V, R > Context< R > context (
+  public static < C, O > DoubleContext context (
     final Lookup< O > lookup,
-    final Optic< C, ? super O, ? super V, R > optic,
+    final DoubleOptic< C, ? super O > optic,
     final Environment environment
   ) {
 
@@ -612,22 +4187,21 @@ public final class Observers {
 
   }
 
+
   /**
-   * Creates a pull-based {@link Context} that sources {@link Observer observers} from a {@code Container}.
+   * Creates a pull-based {@link DoubleContext} that sources {@link DoubleObserver observers} from a {@code Container}.
    *
    * @param container   the source container of the observable objects
-   * @param optic       the optic used to capture and compose observed values into an observation result
+   * @param optic       the optic used to capture and compose observed values into a {@code double} observation result
    * @param environment the environment used to configure the context
    * @param <C>         the class type of the closure state
    * @param <O>         the class type of the observable object
-   * @param <V>         the class type of the observed value
-   * @param <R>         the class type of the observation result
    * @return A context that sources observers from a {@code Container}.
    */
 
-  public static < C, O extends Component, V, R > Context< R > context (
+  public static < C, O extends Component > DoubleContext context (
     final Container< O > container,
-    final Optic< C, ? super O, ? super V, R > optic,
+    final DoubleOptic< C, ? super O > optic,
     final Environment environment
   ) {
 
@@ -642,25 +4216,23 @@ public final class Observers {
 
 
   /**
-   * Creates a push-based {@link Context} that sources {@link Observer observers} from a {@code Source}
-   * using the {@code Subscriber}, {@code Outlet}, and {@code Subscription} interfaces.
+   * Creates a push-based {@link DoubleContext} that sources {@link DoubleObserver observers} from a {@code Source}
+   * folding each emittance into unboxed {@code double} observation results.
    *
    * @param source      the source emitting observables (events)
    * @param selector    the selector used to select a referent or emittance from an outlet callback
-   * @param optic       the optic used to capture and compose observed values into an observation result
+   * @param optic       the optic used to capture and compose observed values into a {@code double} observation result
    * @param environment the environment used to configure the context
    * @param <E>         the class type of the observable events
    * @param <C>         the class type of the closure state
    * @param <O>         the class type of the observable object
-   * @param <V>         the class type of the observed value
-   * @param <R>         the class type of the observation result
-   * @return A context that sources observers from a {@code Container}.
+   * @return A context that sources observers from a {@code Source}.
    */
 
-  public static < C, E, O, V, R > Context< R > context (
+  public static < C, E, O > DoubleContext context (
     final Source< E > source,
     final Function< ? super Event< E >, O > selector,
-    final Optic< C, ? super O, ? super V, R > optic,
+    final DoubleOptic< C, ? super O > optic,
     final Environment environment
   ) {
 
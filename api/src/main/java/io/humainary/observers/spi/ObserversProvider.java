@@ -8,10 +8,16 @@ import io.humainary.observers.Observers.Context;
 import io.humainary.observers.Observers.*;
 import io.humainary.spi.Providers.Provider;
 
-import java.util.function.BiFunction;
-import java.util.function.Function;
-import java.util.function.Predicate;
-import java.util.function.UnaryOperator;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.*;
 
 import static io.humainary.substrates.Substrates.*;
 
@@ -68,6 +74,112 @@ public interface ObserversProvider
   );
 
 
+  < C, O, V, R > Context< R > context (
+    final Function< ? super Name, O > fn,
+    final AsyncOptic< C, ? super O, ? super V, R > optic,
+    final Environment environment
+  );
+
+
+  default < C, O, V, R > Context< R > context (
+    final Lookup< O > lookup,
+    final AsyncOptic< C, ? super O, ? super V, R > optic,
+    final Environment environment
+  ) {
+
+    return
+      context (
+        function ( lookup ),
+        optic,
+        environment
+      );
+
+  }
+
+
+  < C, O extends Component, V, R > Context< R > context (
+    final Container< O > container,
+    final AsyncOptic< C, ? super O, ? super V, R > optic,
+    final Environment environment
+  );
+
+
+  < C, O > LongContext context (
+    final Function< ? super Name, O > fn,
+    final LongOptic< C, ? super O > optic,
+    final Environment environment
+  );
+
+
+  default < C, O > LongContext context (
+    final Lookup< O > lookup,
+    final LongOptic< C, ? super O > optic,
+    final Environment environment
+  ) {
+
+    return
+      context (
+        function ( lookup ),
+        optic,
+        environment
+      );
+
+  }
+
+
+  < C, O extends Component > LongContext context (
+    final Container< O > container,
+    final LongOptic< C, ? super O > optic,
+    final Environment environment
+  );
+
+
+  < C, E, O > LongContext context (
+    final Source< E > source,
+    final Function< ? super Event< E >, O > selector,
+    final LongOptic< C, ? super O > optic,
+    final Environment environment
+  );
+
+
+  < C, O > DoubleContext context (
+    final Function< ? super Name, O > fn,
+    final DoubleOptic< C, ? super O > optic,
+    final Environment environment
+  );
+
+
+  default < C, O > DoubleContext context (
+    final Lookup< O > lookup,
+    final DoubleOptic< C, ? super O > optic,
+    final Environment environment
+  ) {
+
+    return
+      context (
+        function ( lookup ),
+        optic,
+        environment
+      );
+
+  }
+
+
+  < C, O extends Component > DoubleContext context (
+    final Container< O > container,
+    final DoubleOptic< C, ? super O > optic,
+    final Environment environment
+  );
+
+
+  < C, E, O > DoubleContext context (
+    final Source< E > source,
+    final Function< ? super Event< E >, O > selector,
+    final DoubleOptic< C, ? super O > optic,
+    final Environment environment
+  );
+
+
   < C, O, V, R > Optic< C, O, V, R > optic (
     final Bootstrap< C, ? extends R > bootstrap,
     final Lens< C, ? super O, ? extends V > lens,
@@ -113,6 +225,666 @@ public interface ObserversProvider
   }
 
 
+  default < C, O, V, R > Optic< C, O, V, R > fuse (
+    final Optic< C, O, V, R > optic
+  ) {
+
+    return
+      optic;
+
+  }
+
+
+  default < C, O > LongOptic< C, O > fuse (
+    final LongOptic< C, O > optic
+  ) {
+
+    return
+      optic;
+
+  }
+
+
+  default < C, O > DoubleOptic< C, O > fuse (
+    final DoubleOptic< C, O > optic
+  ) {
+
+    return
+      optic;
+
+  }
+
+
+  < O > LongOptic< Window, O > window (
+    final LongLens< Window, ? super O > lens,
+    final Duration duration,
+    final int buckets
+  );
+
+
+  < O > LongOptic< Window, O > tumble (
+    final LongLens< Window, ? super O > lens,
+    final Duration duration
+  );
+
+
+  < O > DoubleOptic< Window, O > rate (
+    final LongLens< Window, ? super O > lens,
+    final Duration duration,
+    final int buckets
+  );
+
+
+  default < C, O > DoubleOptic< C, O > ewma (
+    final DoubleLens< C, ? super O > lens,
+    final Duration halfLife
+  ) {
+
+    if ( halfLife.isZero () || halfLife.isNegative () ) {
+      throw new IllegalArgumentException (
+        "halfLife must be positive"
+      );
+    }
+
+    final var tau =
+      halfLife.toNanos () / Math.log ( 2.0 );
+
+    return
+      doubleOptic (
+        ( closure, name ) -> {
+          closure.asLong ().setAsLong ( Long.MIN_VALUE );
+          return 0.0;
+        },
+        lens,
+        ( closure, prev, value ) -> {
+
+          final var slot = closure.asLong ();
+          final var last = slot.getAsLong ();
+          final var now  = System.nanoTime ();
+
+          slot.setAsLong ( now );
+
+          return
+            last == Long.MIN_VALUE
+            ? value
+            : prev + ( 1.0 - Math.exp ( ( last - now ) / tau ) ) * ( value - prev );
+
+        }
+      );
+
+  }
+
+
+  < O > DoubleOptic< Sketch, O > quantile (
+    final DoubleLens< Sketch, ? super O > lens,
+    final double quantile,
+    final double accuracy
+  );
+
+
+  < C, O > Optic< C, O, O, Sketch > sketch (
+    final DoubleLens< C, ? super O > lens,
+    final double accuracy
+  );
+
+
+  Sketch sketch (
+    final double accuracy
+  );
+
+
+  < R > Context< R > rollup (
+    final Context< R > context,
+    final Aggregate< R > aggregate,
+    final Environment environment
+  );
+
+
+  default < R > Aggregate< R > aggregate (
+    final R identity,
+    final BinaryOperator< R > combiner
+  ) {
+
+    return
+      new Aggregate<> () {
+
+        @Override
+        public R identity () {
+
+          return
+            identity;
+
+        }
+
+        @Override
+        public R combine (
+          final R left,
+          final R right
+        ) {
+
+          return
+            combiner.apply (
+              left,
+              right
+            );
+
+        }
+
+      };
+
+  }
+
+
+  default < R > Aggregate< R > aggregate (
+    final R identity,
+    final BinaryOperator< R > combiner,
+    final BinaryOperator< R > retractor
+  ) {
+
+    return
+      new Aggregate<> () {
+
+        @Override
+        public R identity () {
+
+          return
+            identity;
+
+        }
+
+        @Override
+        public R combine (
+          final R left,
+          final R right
+        ) {
+
+          return
+            combiner.apply (
+              left,
+              right
+            );
+
+        }
+
+        @Override
+        public Optional< R > retract (
+          final R aggregate,
+          final R value
+        ) {
+
+          return
+            Optional.of (
+              retractor.apply (
+                aggregate,
+                value
+              )
+            );
+
+        }
+
+      };
+
+  }
+
+
+  default Aggregate< Long > sum () {
+
+    return
+      aggregate (
+        0L,
+        Long::sum,
+        ( aggregate, value ) -> aggregate - value
+      );
+
+  }
+
+
+  default Aggregate< Long > count () {
+
+    final var sum =
+      sum ();
+
+    return
+      new Aggregate<> () {
+
+        @Override
+        public Long identity () {
+
+          return
+            sum.identity ();
+
+        }
+
+        @Override
+        public Long lift (
+          final Long value
+        ) {
+
+          return
+            1L;
+
+        }
+
+        @Override
+        public Long combine (
+          final Long left,
+          final Long right
+        ) {
+
+          return
+            sum.combine (
+              left,
+              right
+            );
+
+        }
+
+        @Override
+        public Optional< Long > retract (
+          final Long aggregate,
+          final Long value
+        ) {
+
+          return
+            sum.retract (
+              aggregate,
+              value
+            );
+
+        }
+
+      };
+
+  }
+
+
+  default Aggregate< Long > min () {
+
+    return
+      aggregate (
+        null,
+        ( Long left, Long right ) ->
+          left == null
+          ? right
+          : right == null
+            ? left
+            : Math.min ( left, right )
+      );
+
+  }
+
+
+  default Aggregate< Long > max () {
+
+    return
+      aggregate (
+        null,
+        ( Long left, Long right ) ->
+          left == null
+          ? right
+          : right == null
+            ? left
+            : Math.max ( left, right )
+      );
+
+  }
+
+
+  < C, O, V, R > Optic< C, O, V, R > encoded (
+    final Optic< C, O, V, R > optic,
+    final Codec< C > closure,
+    final Codec< R > result
+  );
+
+
+  < C, O > LongOptic< C, O > encoded (
+    final LongOptic< C, O > optic,
+    final Codec< C > closure
+  );
+
+
+  < C, O > DoubleOptic< C, O > encoded (
+    final DoubleOptic< C, O > optic,
+    final Codec< C > closure
+  );
+
+
+  < R > Encoder< R > encoder (
+    final WritableByteChannel channel,
+    final Codec< R > codec,
+    final int frameSize
+  );
+
+
+  < R > Decoder< R > decoder (
+    final ReadableByteChannel channel,
+    final Codec< R > codec
+  );
+
+
+  < E > Recording record (
+    final Source< E > source,
+    final Codec< E > codec,
+    final WritableByteChannel channel
+  );
+
+
+  < E > Replay< E > replay (
+    final SeekableByteChannel channel,
+    final Codec< E > codec
+  );
+
+
+  Scheduler scheduler (
+    final Environment environment
+  );
+
+
+  default Sampling fixed (
+    final Duration period
+  ) {
+
+    if ( period.isZero () || period.isNegative () ) {
+      throw new IllegalArgumentException (
+        "period must be positive"
+      );
+    }
+
+    final var nanos =
+      period.toNanos ();
+
+    return
+      ( __, changed ) ->
+        nanos;
+
+  }
+
+
+  < C, O, V, R > AsyncOptic< C, O, V, R > asyncOptic (
+    final Bootstrap< C, ? extends R > bootstrap,
+    final AsyncLens< C, ? super O, ? extends V > lens,
+    final Operant< C, ? super V, R > operant,
+    final Duration timeout
+  );
+
+
+  default < C, O, V > AsyncOptic< C, O, V, V > asyncOptic (
+    final AsyncLens< C, ? super O, ? extends V > lens,
+    final Duration timeout
+  ) {
+
+    return
+      asyncOptic (
+        bootstrap (),
+        lens,
+        operant (),
+        timeout
+      );
+
+  }
+
+
+  < C, O, V > AsyncLens< C, O, V > asyncLens (
+    final Lens< C, ? super O, ? extends V > lens
+  );
+
+
+  default Sampling adaptive (
+    final Duration min,
+    final Duration max,
+    final double backoff
+  ) {
+
+    if ( min.isZero () || min.isNegative () ) {
+      throw new IllegalArgumentException (
+        "min must be positive"
+      );
+    }
+
+    if ( min.compareTo ( max ) > 0 ) {
+      throw new IllegalArgumentException (
+        "min must not be greater than max"
+      );
+    }
+
+    if ( backoff <= 1.0 ) {
+      throw new IllegalArgumentException (
+        "backoff must be greater than 1.0"
+      );
+    }
+
+    final var lower =
+      min.toNanos ();
+
+    final var upper =
+      max.toNanos ();
+
+    return
+      ( period, changed ) ->
+        changed
+        ? lower
+        : (long) Math.min ( upper, Math.max ( lower, period ) * backoff );
+
+  }
+
+
+  default LongCodec longCodec () {
+
+    // a presence byte precedes the value, which is written
+    // even when absent so that every value is of one width
+
+    return
+      new LongCodec () {
+
+        @Override
+        public void encode (
+          final Long value,
+          final ByteBuffer buffer
+        ) {
+
+          if ( buffer.remaining () < width () ) {
+            throw new BufferOverflowException ();
+          }
+
+          if ( value == null ) {
+            buffer
+              .put ( (byte) 0 )
+              .putLong ( 0 );
+          } else {
+            buffer
+              .put ( (byte) 1 )
+              .putLong ( value );
+          }
+
+        }
+
+        @Override
+        public Long decode (
+          final ByteBuffer buffer
+        ) {
+
+          if ( buffer.remaining () < width () ) {
+            throw new BufferUnderflowException ();
+          }
+
+          final var present =
+            buffer.get () != 0;
+
+          final var value =
+            buffer.getLong ();
+
+          return
+            present
+            ? value
+            : null;
+
+        }
+
+        @Override
+        public int width () {
+
+          return
+            1 + Long.BYTES;
+
+        }
+
+      };
+
+  }
+
+
+  default DoubleCodec doubleCodec () {
+
+    // a presence byte precedes the value, which is written
+    // even when absent so that every value is of one width
+
+    return
+      new DoubleCodec () {
+
+        @Override
+        public void encode (
+          final Double value,
+          final ByteBuffer buffer
+        ) {
+
+          if ( buffer.remaining () < width () ) {
+            throw new BufferOverflowException ();
+          }
+
+          if ( value == null ) {
+            buffer
+              .put ( (byte) 0 )
+              .putDouble ( 0 );
+          } else {
+            buffer
+              .put ( (byte) 1 )
+              .putDouble ( value );
+          }
+
+        }
+
+        @Override
+        public Double decode (
+          final ByteBuffer buffer
+        ) {
+
+          if ( buffer.remaining () < width () ) {
+            throw new BufferUnderflowException ();
+          }
+
+          final var present =
+            buffer.get () != 0;
+
+          final var value =
+            buffer.getDouble ();
+
+          return
+            present
+            ? value
+            : null;
+
+        }
+
+        @Override
+        public int width () {
+
+          return
+            1 + Double.BYTES;
+
+        }
+
+      };
+
+  }
+
+
+  default Codec< String > stringCodec () {
+
+    // a length of -1 marks an absent value
+
+    return
+      new Codec<> () {
+
+        @Override
+        public void encode (
+          final String value,
+          final ByteBuffer buffer
+        ) {
+
+          if ( value == null ) {
+
+            if ( buffer.remaining () < Integer.BYTES ) {
+              throw new BufferOverflowException ();
+            }
+
+            buffer.putInt ( -1 );
+
+            return;
+
+          }
+
+          final var bytes =
+            value.getBytes (
+              StandardCharsets.UTF_8
+            );
+
+          if ( buffer.remaining () < Integer.BYTES + bytes.length ) {
+            throw new BufferOverflowException ();
+          }
+
+          buffer
+            .putInt ( bytes.length )
+            .put ( bytes );
+
+        }
+
+        @Override
+        public String decode (
+          final ByteBuffer buffer
+        ) {
+
+          if ( buffer.remaining () < Integer.BYTES ) {
+            throw new BufferUnderflowException ();
+          }
+
+          final var length =
+            buffer.getInt ( buffer.position () );
+
+          if ( length < 0 ) {
+
+            buffer.position (
+              buffer.position () + Integer.BYTES
+            );
+
+            return
+              null;
+
+          }
+
+          if ( buffer.remaining () < Integer.BYTES + length ) {
+            throw new BufferUnderflowException ();
+          }
+
+          final var bytes =
+            new byte[length];
+
+          buffer
+            .position ( buffer.position () + Integer.BYTES )
+            .get ( bytes );
+
+          return
+            new String (
+              bytes,
+              StandardCharsets.UTF_8
+            );
+
+        }
+
+      };
+
+  }
+
+
   default < V, C > Lens< C, V, V > lens (
     final Predicate< ? super V > predicate
   ) {
@@ -223,4 +995,212 @@ public interface ObserversProvider
   }
 
 
+  < C, O > LongOptic< C, O > longOptic (
+    final LongBootstrap< C > bootstrap,
+    final LongLens< C, ? super O > lens,
+    final LongOperant< C > operant
+  );
+
+
+  default < C, O > LongOptic< C, O > longOptic (
+    final LongLens< C, ? super O > lens
+  ) {
+
+    return
+      longOptic (
+        longBootstrap ( 0 ),
+        lens,
+        longOperant ()
+      );
+
+  }
+
+
+  default < C > LongOptic< C, Number > longOptic (
+    final LongOperant< C > operant
+  ) {
+
+    return
+      longOptic (
+        longBootstrap ( 0 ),
+        longLens (),
+        operant
+      );
+
+  }
+
+
+  default < C > LongLens< C, Number > longLens () {
+
+    return
+      ( __, observable ) ->
+        observable.longValue ();
+
+  }
+
+
+  default < C, O > LongLens< C, O > longLens (
+    final ToLongFunction< ? super O > func
+  ) {
+
+    return
+      ( __, observable ) ->
+        func.applyAsLong (
+          observable
+        );
+
+  }
+
+
+  default < C > LongOperant< C > longOperant () {
+
+    return
+      ( __, prev, value ) ->
+        value;
+
+  }
+
+
+  default < C > LongOperant< C > longOperant (
+    final LongBinaryOperator operator
+  ) {
+
+    return
+      ( __, prev, value ) ->
+        operator.applyAsLong (
+          prev,
+          value
+        );
+
+  }
+
+
+  default < C > LongOperant< C > longOperant (
+    final LongUnaryOperator operator
+  ) {
+
+    return
+      ( __, prev, value ) ->
+        operator.applyAsLong (
+          prev
+        );
+
+  }
+
+
+  default < C > LongBootstrap< C > longBootstrap (
+    final long defValue
+  ) {
+
+    return
+      ( closure, name ) ->
+        defValue;
+
+  }
+
+
+  < C, O > DoubleOptic< C, O > doubleOptic (
+    final DoubleBootstrap< C > bootstrap,
+    final DoubleLens< C, ? super O > lens,
+    final DoubleOperant< C > operant
+  );
+
+
+  default < C, O > DoubleOptic< C, O > doubleOptic (
+    final DoubleLens< C, ? super O > lens
+  ) {
+
+    return
+      doubleOptic (
+        doubleBootstrap ( 0 ),
+        lens,
+        doubleOperant ()
+      );
+
+  }
+
+
+  default < C > DoubleOptic< C, Number > doubleOptic (
+    final DoubleOperant< C > operant
+  ) {
+
+    return
+      doubleOptic (
+        doubleBootstrap ( 0 ),
+        doubleLens (),
+        operant
+      );
+
+  }
+
+
+  default < C > DoubleLens< C, Number > doubleLens () {
+
+    return
+      ( __, observable ) ->
+        observable.doubleValue ();
+
+  }
+
+
+  default < C, O > DoubleLens< C, O > doubleLens (
+    final ToDoubleFunction< ? super O > func
+  ) {
+
+    return
+      ( __, observable ) ->
+        func.applyAsDouble (
+          observable
+        );
+
+  }
+
+
+  default < C > DoubleOperant< C > doubleOperant () {
+
+    return
+      ( __, prev, value ) ->
+        value;
+
+  }
+
+
+  default < C > DoubleOperant< C > doubleOperant (
+    final DoubleBinaryOperator operator
+  ) {
+
+    return
+      ( __, prev, value ) ->
+        operator.applyAsDouble (
+          prev,
+          value
+        );
+
+  }
+
+
+  default < C > DoubleOperant< C > doubleOperant (
+    final DoubleUnaryOperator operator
+  ) {
+
+    return
+      ( __, prev, value ) ->
+        operator.applyAsDouble (
+          prev
+        );
+
+  }
+
+
+  default < C > DoubleBootstrap< C > doubleBootstrap (
+    final double defValue
+  ) {
+
+    return
+      ( closure, name ) ->
+        defValue;
+
+  }
+
+
 }
@@ -0,0 +1,90 @@
+/*
+ * Copyright © 2022 JINSPIRED B.V.
+ */
+
+package io.humainary.observers.perfkit;
+
+import io.humainary.devkit.perfkit.PerfKit;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+
+import static io.humainary.observers.Observers.*;
+import static io.humainary.substrates.Substrates.*;
+
+
+/**
+ * Measures the cost of creating, and so bootstrapping, observers within a fresh context.
+ */
+
+@State ( Scope.Benchmark )
+public class BootstrapDriver implements
+                             PerfKit.Driver {
+
+  private static final int    SIZE  = 1024;
+  private static final Name[] NAMES = new Name[SIZE];
+  private static final Long   ZERO  = 0L;
+
+  static {
+    for ( var i = 0; i < SIZE; i++ ) {
+      NAMES[i] = name ( "observer#" + i );
+    }
+  }
+
+  private Environment                    environment;
+  private Optic< Long, Name, Name, Long > optic;
+
+  @Setup ( Level.Trial )
+  public final void setup ()
+  throws IOException {
+
+    final var configuration =
+      configuration ();
+
+    environment =
+      environment (
+        lookup (
+          path ->
+            configuration.apply (
+              path.toString ()
+            )
+        )
+      );
+
+    optic =
+      optic (
+        ( closure, name ) -> {
+          closure.set ( ZERO );
+          return ZERO;
+        },
+        lens (),
+        operant (
+          ( Long total, Name name ) ->
+            total + 1
+        )
+      );
+
+  }
+
+  @Benchmark
+  @OperationsPerInvocation ( SIZE )
+  public void context_observer_create () {
+
+    final var context =
+      context (
+        name -> name,
+        optic,
+        environment
+      );
+
+    for ( final Name name : NAMES ) {
+      context.observer (
+        name
+      );
+    }
+
+    context.close ();
+
+  }
+
+}
@@ -0,0 +1,30 @@
+/*
+ * Copyright © 2022 JINSPIRED B.V.
+ */
+
+package io.humainary.observers.perfkit;
+
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+
+/**
+ * A per-thread cursor that spreads accesses across a power-of-two sized table, with each
+ * thread starting from a different offset to avoid lock-step access. Drivers mask the
+ * returned index with the size of the table being accessed.
+ */
+
+@State ( Scope.Thread )
+public class Cursor {
+
+  private int index =
+    (int) Thread.currentThread ().getId () * 31;
+
+  final int next () {
+
+    return
+      index++;
+
+  }
+
+}
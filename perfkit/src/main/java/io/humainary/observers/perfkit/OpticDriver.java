@@ -0,0 +1,159 @@
+/*
+ * Copyright © 2022 JINSPIRED B.V.
+ */
+
+package io.humainary.observers.perfkit;
+
+import io.humainary.devkit.perfkit.PerfKit;
+import io.humainary.observers.Observers;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static io.humainary.observers.Observers.*;
+import static io.humainary.substrates.Substrates.*;
+
+
+/**
+ * Compares composed against fused optics in observing a mix of optic shapes,
+ * which drives the bootstrap, lens and operant call sites megamorphic.
+ */
+
+@State ( Scope.Benchmark )
+public class OpticDriver implements
+                         PerfKit.Driver {
+
+  private static final Name NAME = name ( "observer#1" );
+  private static final Long ZERO = 0L;
+
+  private List< Observer< Long > > composed;
+  private List< Observer< Long > > fused;
+
+  @Setup ( Level.Trial )
+  public final void setup ()
+  throws IOException {
+
+    final var configuration =
+      configuration ();
+
+    final var environment =
+      environment (
+        lookup (
+          path ->
+            configuration.apply (
+              path.toString ()
+            )
+        )
+      );
+
+    composed =
+      observers (
+        false,
+        environment
+      );
+
+    fused =
+      observers (
+        true,
+        environment
+      );
+
+  }
+
+  private static List< Observer< Long > > observers (
+    final boolean fused,
+    final Environment environment
+  ) {
+
+    final Lens< Object, AtomicLong, Long > value =
+      lens (
+        AtomicLong::incrementAndGet
+      );
+
+    return
+      List.of (
+        observer (
+          optic (
+            value
+          ),
+          fused,
+          environment
+        ),
+        observer (
+          optic (
+            bootstrap ( ZERO ),
+            value,
+            operant (
+              ( Long prev, Long next ) -> prev + next
+            )
+          ),
+          fused,
+          environment
+        ),
+        observer (
+          optic (
+            value
+              .pipe ( lens ( ( Long v ) -> v * 2 ) )
+              .pipe ( lens ( ( Long v ) -> v + 1 ) )
+          ),
+          fused,
+          environment
+        ),
+        observer (
+          optic (
+            value
+              .require ( counter -> counter.get () >= 0 )
+          ),
+          fused,
+          environment
+        )
+      );
+
+  }
+
+  private static < C, V > Observer< Long > observer (
+    final Optic< C, AtomicLong, V, Long > optic,
+    final boolean fused,
+    final Environment environment
+  ) {
+
+    final Observers.Context< Long > context =
+      context (
+        name -> new AtomicLong (),
+        fused ? fuse ( optic ) : optic,
+        environment
+      );
+
+    return
+      context.observer (
+        NAME
+      );
+
+  }
+
+  // composed and fused observers are created in every trial so
+  // that the composed call sites see all four optic shapes
+
+  @Benchmark
+  @OperationsPerInvocation ( 4 )
+  public void observer_observe_composed () {
+
+    for ( final Observer< Long > observer : composed ) {
+      observer.observe ();
+    }
+
+  }
+
+  @Benchmark
+  @OperationsPerInvocation ( 4 )
+  public void observer_observe_fused () {
+
+    for ( final Observer< Long > observer : fused ) {
+      observer.observe ();
+    }
+
+  }
+
+}
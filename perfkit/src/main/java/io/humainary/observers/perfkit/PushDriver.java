@@ -0,0 +1,295 @@
+/*
+ * Copyright © 2022 JINSPIRED B.V.
+ */
+
+package io.humainary.observers.perfkit;
+
+import io.humainary.counters.Counters;
+import io.humainary.devkit.perfkit.PerfKit;
+import io.humainary.observers.Observers;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.Objects;
+import java.util.function.Function;
+
+import static io.humainary.observers.Observers.*;
+import static io.humainary.substrates.Substrates.*;
+
+
+/**
+ * Measures the push path of a source-based context, from the emitting counter through
+ * a lens chain of a given pipe depth, filtered by a lens requirement passing a given
+ * percentage of events, on to the operant and the context subscriber.
+ * <p>
+ * Each depth and selectivity is a benchmark of its own, with the pipeline held in a
+ * state of its own, so that each can be held to a regression threshold of its own.
+ */
+
+@State ( Scope.Benchmark )
+public class PushDriver implements
+                        PerfKit.Driver {
+
+  private static final Outlet< Long >     OUTLET     = Outlet.empty ();
+  private static final Subscriber< Long > SUBSCRIBER = subscriber ( OUTLET );
+  private static final Name               PASS       = name ( "counter#1" );
+  private static final Name               DROP       = name ( "counter#2" );
+  private static final Long               ZERO       = 0L;
+
+  @Benchmark
+  public void counter_inc_depth_1 (
+    final Depth1 pipeline,
+    final Sequence sequence
+  ) {
+
+    pipeline.inc ( sequence );
+
+  }
+
+  @Benchmark
+  public void counter_inc_depth_2 (
+    final Depth2 pipeline,
+    final Sequence sequence
+  ) {
+
+    pipeline.inc ( sequence );
+
+  }
+
+  @Benchmark
+  public void counter_inc_depth_4 (
+    final Depth4 pipeline,
+    final Sequence sequence
+  ) {
+
+    pipeline.inc ( sequence );
+
+  }
+
+  @Benchmark
+  public void counter_inc_depth_8 (
+    final Depth8 pipeline,
+    final Sequence sequence
+  ) {
+
+    pipeline.inc ( sequence );
+
+  }
+
+  @Benchmark
+  public void counter_inc_selectivity_0 (
+    final Selectivity0 pipeline,
+    final Sequence sequence
+  ) {
+
+    pipeline.inc ( sequence );
+
+  }
+
+  @Benchmark
+  public void counter_inc_selectivity_50 (
+    final Selectivity50 pipeline,
+    final Sequence sequence
+  ) {
+
+    pipeline.inc ( sequence );
+
+  }
+
+
+  /**
+   * A source-based context observing two counters, with the events of one passing the lens requirement
+   * and those of the other not, the closure of each observer recording which of the two it observes.
+   */
+
+  public abstract static class Pipeline implements
+                                        PerfKit.Driver {
+
+    private final int depth;
+    private final int selectivity;
+
+    private Observers.Context< Long > context;
+    private Counters.Counter          pass;
+    private Counters.Counter          drop;
+
+    Pipeline (
+      final int depth,
+      final int selectivity
+    ) {
+
+      this.depth = depth;
+      this.selectivity = selectivity;
+
+    }
+
+    @Setup ( Level.Trial )
+    public final void setup ()
+    throws IOException {
+
+      final var configuration =
+        configuration ();
+
+      final var counters =
+        Counters.context ();
+
+      pass = counters.counter ( PASS );
+      drop = counters.counter ( DROP );
+
+      final Lens< Boolean, Object, Object > tag =
+        ( closure, value ) ->
+          closure.get ()
+          ? value
+          : null;
+
+      Lens< Boolean, Object, Object > lens =
+        lens ();
+
+      for ( var i = 0; i < depth; i++ ) {
+        lens =
+          lens.pipe (
+            lens (
+              Function.identity ()
+            )
+          );
+      }
+
+      context =
+        context (
+          counters,
+          Event::emittance,
+          optic (
+            ( closure, name ) -> {
+              closure.set ( name == PASS );
+              return ZERO;
+            },
+            tag.pipe (
+              lens.require (
+                Objects::nonNull
+              )
+            ),
+            operant (
+              ( Long total, Object value ) ->
+                value == null
+                ? total
+                : total + 1
+            )
+          ),
+          environment (
+            lookup (
+              path ->
+                configuration.apply (
+                  path.toString ()
+                )
+            )
+          )
+        );
+
+      context.subscribe (
+        SUBSCRIBER
+      );
+
+    }
+
+    @TearDown ( Level.Trial )
+    public final void teardown () {
+
+      context.close ();
+
+    }
+
+    final void inc (
+      final Sequence sequence
+    ) {
+
+      ( sequence.next () < selectivity ? pass : drop ).inc ();
+
+    }
+
+  }
+
+
+  @State ( Scope.Benchmark )
+  public static class Depth1 extends Pipeline {
+
+    public Depth1 () {
+      super ( 1, 100 );
+    }
+
+  }
+
+
+  @State ( Scope.Benchmark )
+  public static class Depth2 extends Pipeline {
+
+    public Depth2 () {
+      super ( 2, 100 );
+    }
+
+  }
+
+
+  @State ( Scope.Benchmark )
+  public static class Depth4 extends Pipeline {
+
+    public Depth4 () {
+      super ( 4, 100 );
+    }
+
+  }
+
+
+  @State ( Scope.Benchmark )
+  public static class Depth8 extends Pipeline {
+
+    public Depth8 () {
+      super ( 8, 100 );
+    }
+
+  }
+
+
+  @State ( Scope.Benchmark )
+  public static class Selectivity0 extends Pipeline {
+
+    public Selectivity0 () {
+      super ( 1, 0 );
+    }
+
+  }
+
+
+  @State ( Scope.Benchmark )
+  public static class Selectivity50 extends Pipeline {
+
+    public Selectivity50 () {
+      super ( 1, 50 );
+    }
+
+  }
+
+
+  /**
+   * A per-thread sequence cycling through the percentiles, so that each thread
+   * passes exactly the selected percentage of its events without sharing a write.
+   */
+
+  @State ( Scope.Thread )
+  public static class Sequence {
+
+    private int percentile;
+
+    final int next () {
+
+      percentile =
+        percentile == 99
+        ? 0
+        : percentile + 1;
+
+      return
+        percentile;
+
+    }
+
+  }
+
+}
@@ -0,0 +1,255 @@
+/*
+ * Copyright © 2022 JINSPIRED B.V.
+ */
+
+package io.humainary.observers.perfkit;
+
+import io.humainary.devkit.perfkit.PerfKit;
+import io.humainary.observers.Observers;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.Optional;
+
+import static io.humainary.observers.Observers.*;
+import static io.humainary.substrates.Substrates.*;
+
+
+/**
+ * Measures the name-to-observer lookups of a context with each {@link Registry}, as threads
+ * spread their lookups across the observers or all look up the same observer.
+ * <p>
+ * Each registry is a benchmark of its own, with the context held in a state of its own,
+ * so that each can be held to a regression threshold of its own.
+ */
+
+@State ( Scope.Benchmark )
+public class RegistryDriver implements
+                            PerfKit.Driver {
+
+  private static final int    SIZE  = 1024;
+  private static final int    MASK  = SIZE - 1;
+  private static final Name[] NAMES = new Name[SIZE];
+
+  static {
+    for ( var i = 0; i < SIZE; i++ ) {
+      NAMES[i] = name ( "observer#" + i );
+    }
+  }
+
+  @Benchmark
+  public Optional< Observer< Long > > context_get_concurrent (
+    final Concurrent registry,
+    final Cursor cursor
+  ) {
+
+    return
+      registry.get ( cursor );
+
+  }
+
+  @Benchmark
+  public Optional< Observer< Long > > context_get_striped (
+    final Striped registry,
+    final Cursor cursor
+  ) {
+
+    return
+      registry.get ( cursor );
+
+  }
+
+  @Benchmark
+  public Optional< Observer< Long > > context_get_open_addressed (
+    final OpenAddressed registry,
+    final Cursor cursor
+  ) {
+
+    return
+      registry.get ( cursor );
+
+  }
+
+  @Benchmark
+  public Observer< Long > context_observer_concurrent (
+    final Concurrent registry,
+    final Cursor cursor
+  ) {
+
+    return
+      registry.observer ( cursor );
+
+  }
+
+  @Benchmark
+  public Observer< Long > context_observer_striped (
+    final Striped registry,
+    final Cursor cursor
+  ) {
+
+    return
+      registry.observer ( cursor );
+
+  }
+
+  @Benchmark
+  public Observer< Long > context_observer_open_addressed (
+    final OpenAddressed registry,
+    final Cursor cursor
+  ) {
+
+    return
+      registry.observer ( cursor );
+
+  }
+
+  @Benchmark
+  public Observer< Long > context_observer_shared_concurrent (
+    final Concurrent registry
+  ) {
+
+    return
+      registry.shared ();
+
+  }
+
+  @Benchmark
+  public Observer< Long > context_observer_shared_striped (
+    final Striped registry
+  ) {
+
+    return
+      registry.shared ();
+
+  }
+
+  @Benchmark
+  public Observer< Long > context_observer_shared_open_addressed (
+    final OpenAddressed registry
+  ) {
+
+    return
+      registry.shared ();
+
+  }
+
+
+  /**
+   * A context using the given registry, populated with an observer for each of the names.
+   */
+
+  public abstract static class Mapping implements
+                                       PerfKit.Driver {
+
+    private final Registry registry;
+
+    private Observers.Context< Long > context;
+
+    Mapping (
+      final Registry registry
+    ) {
+
+      this.registry = registry;
+
+    }
+
+    @Setup ( Level.Trial )
+    public final void setup ()
+    throws IOException {
+
+      final var configuration =
+        configuration ();
+
+      final var value =
+        registry.name ();
+
+      //noinspection RedundantTypeArguments
+      context =
+        context (
+          hub (),
+          Event< Long >::emittance,
+          optic (),
+          environment (
+            lookup (
+              path ->
+                path == REGISTRY
+                ? value
+                : configuration.apply (
+                  path.toString ()
+                )
+            )
+          )
+        );
+
+      for ( final Name name : NAMES ) {
+        context.observer (
+          name
+        );
+      }
+
+    }
+
+    final Optional< Observer< Long > > get (
+      final Cursor cursor
+    ) {
+
+      return
+        context.get (
+          NAMES[cursor.next () & MASK]
+        );
+
+    }
+
+    final Observer< Long > observer (
+      final Cursor cursor
+    ) {
+
+      return
+        context.observer (
+          NAMES[cursor.next () & MASK]
+        );
+
+    }
+
+    final Observer< Long > shared () {
+
+      return
+        context.observer (
+          NAMES[0]
+        );
+
+    }
+
+  }
+
+
+  @State ( Scope.Benchmark )
+  public static class Concurrent extends Mapping {
+
+    public Concurrent () {
+      super ( Registry.CONCURRENT );
+    }
+
+  }
+
+
+  @State ( Scope.Benchmark )
+  public static class Striped extends Mapping {
+
+    public Striped () {
+      super ( Registry.STRIPED );
+    }
+
+  }
+
+
+  @State ( Scope.Benchmark )
+  public static class OpenAddressed extends Mapping {
+
+    public OpenAddressed () {
+      super ( Registry.OPEN_ADDRESSED );
+    }
+
+  }
+
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright © 2022 JINSPIRED B.V.
+ */
+
+package io.humainary.observers.perfkit;
+
+import io.humainary.counters.Counters;
+import io.humainary.devkit.perfkit.PerfKit;
+import io.humainary.observers.Observers;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static io.humainary.observers.Observers.*;
+import static io.humainary.substrates.Substrates.*;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+
+/**
+ * Measures the push path of a source-based context driven by the replay of a trace of
+ * counter events, played back-to-back, with one play per benchmark invocation.
+ * <p>
+ * The trace is read from the file set by the {@value #TRACE} configuration property,
+ * such as one recorded from production, and otherwise from a synthetic trace of
+ * {@value #EVENTS} events recorded in setup, to which the regression thresholds apply.
+ */
+
+@State ( Scope.Benchmark )
+public class ReplayDriver implements
+                          PerfKit.Driver {
+
+  static final String TRACE  = "io.humainary.observers.perfkit.trace";
+  static final int    EVENTS = 10_000;
+
+  private static final int  SIZE = 64;
+  private static final Long ZERO = 0L;
+
+  private Path                      synthetic;
+  private FileChannel               channel;
+  private Replay< Long >            replay;
+  private Observers.Context< Long > context;
+
+  @Setup ( Level.Trial )
+  public final void setup ()
+  throws IOException {
+
+    final var configuration =
+      configuration ();
+
+    final var trace =
+      configuration.apply (
+        TRACE
+      );
+
+    channel =
+      FileChannel.open (
+        trace != null
+        ? Path.of ( trace )
+        : record (),
+        READ
+      );
+
+    replay =
+      replay (
+        channel,
+        longCodec ()
+      );
+
+    context =
+      context (
+        replay,
+        Event::emittance,
+        optic (
+          bootstrap ( ZERO ),
+          lens (),
+          operant ( total -> ++total )
+        ),
+        environment (
+          lookup (
+            path ->
+              configuration.apply (
+                path.toString ()
+              )
+          )
+        )
+      );
+
+  }
+
+  private Path record ()
+  throws IOException {
+
+    synthetic =
+      Files.createTempFile (
+        "observers",
+        ".trace"
+      );
+
+    final var counters =
+      Counters.context ();
+
+    final var instruments =
+      new Counters.Counter[SIZE];
+
+    for ( var i = 0; i < SIZE; i++ ) {
+      instruments[i] =
+        counters.counter (
+          name ( "counter#" + i )
+        );
+    }
+
+    try (
+      final var output = FileChannel.open ( synthetic, WRITE );
+      final var recording = Observers.record ( counters, longCodec (), output )
+    ) {
+
+      // skewed towards the lower counters as
+      // with the hot names of a production trace
+
+      for ( var i = 0; i < EVENTS; i++ ) {
+        instruments[( i * i ) % SIZE].inc ();
+      }
+
+      assert recording.events () == EVENTS;
+
+    }
+
+    return
+      synthetic;
+
+  }
+
+  @TearDown ( Level.Trial )
+  public final void teardown ()
+  throws IOException {
+
+    context.close ();
+    channel.close ();
+
+    if ( synthetic != null ) {
+      Files.delete ( synthetic );
+    }
+
+  }
+
+  @Benchmark
+  public Playback replay_play_maximum () {
+
+    return
+      replay.play (
+        Pace.MAXIMUM
+      );
+
+  }
+
+}
@@ -0,0 +1,220 @@
+/*
+ * Copyright © 2022 JINSPIRED B.V.
+ */
+
+package io.humainary.observers.perfkit;
+
+import io.humainary.counters.Counters;
+import io.humainary.devkit.perfkit.PerfKit;
+import io.humainary.observers.Observers;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+
+import static io.humainary.observers.Observers.*;
+import static io.humainary.substrates.Substrates.*;
+
+
+/**
+ * Measures the push path of a source-based context as emitting threads contend on a
+ * single hot counter, or spread across many, with a given number of shards.
+ * <p>
+ * Each shard count is a benchmark of its own, with the context held in a state of
+ * its own, so that each can be held to a regression threshold of its own.
+ */
+
+@State ( Scope.Benchmark )
+public class ShardDriver implements
+                         PerfKit.Driver {
+
+  private static final int                SIZE       = 64;
+  private static final int                MASK       = SIZE - 1;
+  private static final Outlet< Long >     OUTLET     = Outlet.empty ();
+  private static final Subscriber< Long > SUBSCRIBER = subscriber ( OUTLET );
+  private static final Long               ZERO       = 0L;
+
+  @Benchmark
+  public void counter_inc_hot_1 (
+    final Shards1 shards
+  ) {
+
+    shards.hot ();
+
+  }
+
+  @Benchmark
+  public void counter_inc_hot_4 (
+    final Shards4 shards
+  ) {
+
+    shards.hot ();
+
+  }
+
+  @Benchmark
+  public void counter_inc_hot_16 (
+    final Shards16 shards
+  ) {
+
+    shards.hot ();
+
+  }
+
+  @Benchmark
+  public void counter_inc_spread_1 (
+    final Shards1 shards,
+    final Cursor cursor
+  ) {
+
+    shards.spread ( cursor );
+
+  }
+
+  @Benchmark
+  public void counter_inc_spread_4 (
+    final Shards4 shards,
+    final Cursor cursor
+  ) {
+
+    shards.spread ( cursor );
+
+  }
+
+  @Benchmark
+  public void counter_inc_spread_16 (
+    final Shards16 shards,
+    final Cursor cursor
+  ) {
+
+    shards.spread ( cursor );
+
+  }
+
+
+  /**
+   * A source-based context counting the events of each of its counters, with
+   * events folded on the emitting thread or spread across the given number of lanes.
+   */
+
+  public abstract static class Shards implements
+                                      PerfKit.Driver {
+
+    private final int shards;
+
+    private final Counters.Counter[] counters = new Counters.Counter[SIZE];
+
+    private Observers.Context< Long > context;
+
+    Shards (
+      final int shards
+    ) {
+
+      this.shards = shards;
+
+    }
+
+    @Setup ( Level.Trial )
+    public final void setup ()
+    throws IOException {
+
+      final var configuration =
+        configuration ();
+
+      final var source =
+        Counters.context ();
+
+      for ( var i = 0; i < SIZE; i++ ) {
+        counters[i] =
+          source.counter (
+            name ( "counter#" + i )
+          );
+      }
+
+      final var value =
+        Integer.toString ( shards );
+
+      context =
+        context (
+          source,
+          Event::emittance,
+          optic (
+            bootstrap ( ZERO ),
+            lens (),
+            operant (
+              ( Long total, Object event ) ->
+                total + 1
+            )
+          ),
+          environment (
+            lookup (
+              path ->
+                path == SHARDS
+                ? value
+                : configuration.apply (
+                  path.toString ()
+                )
+            )
+          )
+        );
+
+      context.subscribe (
+        SUBSCRIBER
+      );
+
+    }
+
+    @TearDown ( Level.Trial )
+    public final void teardown () {
+
+      context.flush ();
+      context.close ();
+
+    }
+
+    final void hot () {
+
+      counters[0].inc ();
+
+    }
+
+    final void spread (
+      final Cursor cursor
+    ) {
+
+      counters[cursor.next () & MASK].inc ();
+
+    }
+
+  }
+
+
+  @State ( Scope.Benchmark )
+  public static class Shards1 extends Shards {
+
+    public Shards1 () {
+      super ( 1 );
+    }
+
+  }
+
+
+  @State ( Scope.Benchmark )
+  public static class Shards4 extends Shards {
+
+    public Shards4 () {
+      super ( 4 );
+    }
+
+  }
+
+
+  @State ( Scope.Benchmark )
+  public static class Shards16 extends Shards {
+
+    public Shards16 () {
+      super ( 16 );
+    }
+
+  }
+
+}
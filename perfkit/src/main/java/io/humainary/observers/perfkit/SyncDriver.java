@@ -0,0 +1,190 @@
+/*
+ * Copyright © 2022 JINSPIRED B.V.
+ */
+
+package io.humainary.observers.perfkit;
+
+import io.humainary.counters.Counters;
+import io.humainary.devkit.perfkit.PerfKit;
+import io.humainary.observers.Observers;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+
+import static io.humainary.observers.Observers.*;
+import static io.humainary.substrates.Substrates.*;
+
+
+/**
+ * Measures the synchronization and bulk observation of a container-based context
+ * as the number of observed components grows, normalized per component.
+ * <p>
+ * Each size is a benchmark of its own, with the context held in a state of its
+ * own, so that each can be held to a regression threshold of its own.
+ */
+
+@State ( Scope.Benchmark )
+public class SyncDriver implements
+                        PerfKit.Driver {
+
+  private static final int SMALL  = 1_000;
+  private static final int MEDIUM = 100_000;
+  private static final int LARGE  = 1_000_000;
+
+  @Benchmark
+  @OperationsPerInvocation ( SMALL )
+  public void context_sync_1k (
+    final Small components
+  ) {
+
+    components.context.sync ();
+
+  }
+
+  @Benchmark
+  @OperationsPerInvocation ( MEDIUM )
+  public void context_sync_100k (
+    final Medium components
+  ) {
+
+    components.context.sync ();
+
+  }
+
+  @Benchmark
+  @OperationsPerInvocation ( LARGE )
+  public void context_sync_1m (
+    final Large components
+  ) {
+
+    components.context.sync ();
+
+  }
+
+  @Benchmark
+  @OperationsPerInvocation ( SMALL )
+  public int context_observe_all_1k (
+    final Small components
+  ) {
+
+    return
+      components.context.observeAll ();
+
+  }
+
+  @Benchmark
+  @OperationsPerInvocation ( MEDIUM )
+  public int context_observe_all_100k (
+    final Medium components
+  ) {
+
+    return
+      components.context.observeAll ();
+
+  }
+
+  @Benchmark
+  @OperationsPerInvocation ( LARGE )
+  public int context_observe_all_1m (
+    final Large components
+  ) {
+
+    return
+      components.context.observeAll ();
+
+  }
+
+
+  /**
+   * A container-based context observing a given number of counters.
+   */
+
+  public abstract static class Components implements
+                                          PerfKit.Driver {
+
+    private final int size;
+
+    Observers.Context< Counters.Counter > context;
+
+    Components (
+      final int size
+    ) {
+
+      this.size = size;
+
+    }
+
+    @Setup ( Level.Trial )
+    public final void setup ()
+    throws IOException {
+
+      final var configuration =
+        configuration ();
+
+      final var counters =
+        Counters.context ();
+
+      for ( var i = 0; i < size; i++ ) {
+        counters.counter (
+          name ( "counter#" + i )
+        );
+      }
+
+      context =
+        context (
+          counters,
+          optic (),
+          environment (
+            lookup (
+              path ->
+                configuration.apply (
+                  path.toString ()
+                )
+            )
+          )
+        );
+
+      context.sync ();
+
+    }
+
+    @TearDown ( Level.Trial )
+    public final void teardown () {
+
+      context.close ();
+
+    }
+
+  }
+
+
+  @State ( Scope.Benchmark )
+  public static class Small extends Components {
+
+    public Small () {
+      super ( SMALL );
+    }
+
+  }
+
+
+  @State ( Scope.Benchmark )
+  public static class Medium extends Components {
+
+    public Medium () {
+      super ( MEDIUM );
+    }
+
+  }
+
+
+  @State ( Scope.Benchmark )
+  public static class Large extends Components {
+
+    public Large () {
+      super ( LARGE );
+    }
+
+  }
+
+}
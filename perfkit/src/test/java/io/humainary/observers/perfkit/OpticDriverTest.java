@@ -0,0 +1,84 @@
+/*
+ * Copyright © 2022 JINSPIRED B.V.
+ */
+
+package io.humainary.observers.perfkit;
+
+import io.humainary.devkit.perfkit.PerfKit.Target;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import static io.humainary.devkit.perfkit.PerfKit.execute;
+import static io.humainary.devkit.perfkit.PerfKit.target;
+
+/**
+ * The thresholds are per observation. A composed optic costs a handful of megamorphic calls on top
+ * of the atomic increment of the observable, which a fused optic is expected to halve. Threads share
+ * the observables, so the increments contend and no scaling is expected beyond a single thread.
+ */
+
+@TestMethodOrder (
+  OrderAnnotation.class
+)
+final class OpticDriverTest {
+
+  private static final Target TARGET =
+    target (
+      OpticDriver.class,
+      "observers",
+      "io.inspectis.observers.spi.alpha.ProviderFactory"
+    );
+
+  private static final String PROFILE = "spi";
+
+  private static final String COMPOSED = "observer_observe_composed$";
+  private static final String FUSED    = "observer_observe_fused$";
+
+  @Test
+  @Order ( 1 )
+  void one () {
+
+    assertThroughput ( COMPOSED, 1, 30.0 );
+    assertThroughput ( FUSED, 1, 60.0 );
+
+  }
+
+  @Test
+  @Order ( 2 )
+  void two () {
+
+    assertThroughput ( COMPOSED, 2, 10.0 );
+    assertThroughput ( FUSED, 2, 10.0 );
+
+  }
+
+  @Test
+  @Order ( 4 )
+  void four () {
+
+    assertThroughput ( COMPOSED, 4, 10.0 );
+    assertThroughput ( FUSED, 4, 10.0 );
+
+  }
+
+  private static void assertThroughput (
+    final String benchmark,
+    final int threads,
+    final double threshold
+  ) {
+
+    execute (
+      TARGET,
+      PROFILE,
+      benchmark,
+      threads,
+      threshold,
+      Assertions::fail
+    );
+
+  }
+
+}
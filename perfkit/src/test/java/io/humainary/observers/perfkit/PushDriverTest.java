@@ -0,0 +1,99 @@
+/*
+ * Copyright © 2022 JINSPIRED B.V.
+ */
+
+package io.humainary.observers.perfkit;
+
+import io.humainary.devkit.perfkit.PerfKit.Target;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import static io.humainary.devkit.perfkit.PerfKit.execute;
+import static io.humainary.devkit.perfkit.PerfKit.target;
+
+/**
+ * The thresholds are per emitted event. The source dispatch, operant and subscriber emission dominate
+ * a pipeline of depth one, with each further pipe adding a lens call, while events failing the lens
+ * requirement skip the operant and emission. Threads emit on the same two counters and so contend
+ * on them, with the thresholds only guarding against throughput collapsing below a single thread.
+ */
+
+@TestMethodOrder (
+  OrderAnnotation.class
+)
+final class PushDriverTest {
+
+  private static final Target TARGET =
+    target (
+      PushDriver.class,
+      "observers",
+      "io.inspectis.observers.spi.alpha.ProviderFactory"
+    );
+
+  private static final String PROFILE = "spi";
+
+  private static final String DEPTH_1        = "counter_inc_depth_1$";
+  private static final String DEPTH_2        = "counter_inc_depth_2$";
+  private static final String DEPTH_4        = "counter_inc_depth_4$";
+  private static final String DEPTH_8        = "counter_inc_depth_8$";
+  private static final String SELECTIVITY_0  = "counter_inc_selectivity_0$";
+  private static final String SELECTIVITY_50 = "counter_inc_selectivity_50$";
+
+  @Test
+  @Order ( 1 )
+  void one () {
+
+    assertThroughput ( 1 );
+
+  }
+
+  @Test
+  @Order ( 2 )
+  void two () {
+
+    assertThroughput ( 2 );
+
+  }
+
+  @Test
+  @Order ( 4 )
+  void four () {
+
+    assertThroughput ( 4 );
+
+  }
+
+  private static void assertThroughput (
+    final int threads
+  ) {
+
+    assertThroughput ( DEPTH_1, threads, 10.0 );
+    assertThroughput ( DEPTH_2, threads, 9.0 );
+    assertThroughput ( DEPTH_4, threads, 8.0 );
+    assertThroughput ( DEPTH_8, threads, 6.0 );
+    assertThroughput ( SELECTIVITY_0, threads, 15.0 );
+    assertThroughput ( SELECTIVITY_50, threads, 12.0 );
+
+  }
+
+  private static void assertThroughput (
+    final String benchmark,
+    final int threads,
+    final double threshold
+  ) {
+
+    execute (
+      TARGET,
+      PROFILE,
+      benchmark,
+      threads,
+      threshold,
+      Assertions::fail
+    );
+
+  }
+
+}
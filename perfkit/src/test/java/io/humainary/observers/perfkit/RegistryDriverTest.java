@@ -0,0 +1,121 @@
+/*
+ * Copyright © 2022 JINSPIRED B.V.
+ */
+
+package io.humainary.observers.perfkit;
+
+import io.humainary.devkit.perfkit.PerfKit.Target;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import static io.humainary.devkit.perfkit.PerfKit.execute;
+import static io.humainary.devkit.perfkit.PerfKit.target;
+
+/**
+ * The thresholds are per lookup and are anchored on the single thread floor of {@link DriverTest}, which
+ * looks up the observers of a context with the default registry. Lookups spread across the observers scale
+ * with the number of threads, credited up to four so as not to assume more cores than a build host has.
+ * Lookups of the same observer by all threads contend on the one entry, with the threshold only guarding
+ * against throughput collapsing below a single thread. Each registry is held to the same floors, with
+ * the one not matching them being the regression.
+ */
+
+@TestMethodOrder (
+  OrderAnnotation.class
+)
+final class RegistryDriverTest {
+
+  private static final Target TARGET =
+    target (
+      RegistryDriver.class,
+      "observers",
+      "io.inspectis.observers.spi.alpha.ProviderFactory"
+    );
+
+  private static final String PROFILE = "spi";
+
+  private static final String[] REGISTRIES = {
+    "concurrent",
+    "striped",
+    "open_addressed"
+  };
+
+  private static final double LOOKUP = 250.0;
+  private static final int    CORES  = 4;
+
+  @Test
+  @Order ( 1 )
+  void one () {
+
+    assertThroughput ( 1 );
+
+  }
+
+  @Test
+  @Order ( 2 )
+  void two () {
+
+    assertThroughput ( 2 );
+
+  }
+
+  @Test
+  @Order ( 4 )
+  void four () {
+
+    assertThroughput ( 4 );
+
+  }
+
+  @Test
+  @Order ( 8 )
+  void eight () {
+
+    assertThroughput ( 8 );
+
+  }
+
+  @Test
+  @Order ( 16 )
+  void sixteen () {
+
+    assertThroughput ( 16 );
+
+  }
+
+  private static void assertThroughput (
+    final int threads
+  ) {
+
+    final var spread =
+      LOOKUP * Math.min ( CORES, threads );
+
+    for ( final var registry : REGISTRIES ) {
+      assertThroughput ( "context_get_" + registry + "$", threads, spread );
+      assertThroughput ( "context_observer_" + registry + "$", threads, spread );
+      assertThroughput ( "context_observer_shared_" + registry + "$", threads, LOOKUP );
+    }
+
+  }
+
+  private static void assertThroughput (
+    final String benchmark,
+    final int threads,
+    final double threshold
+  ) {
+
+    execute (
+      TARGET,
+      PROFILE,
+      benchmark,
+      threads,
+      threshold,
+      Assertions::fail
+    );
+
+  }
+
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright © 2022 JINSPIRED B.V.
+ */
+
+package io.humainary.observers.perfkit;
+
+import io.humainary.devkit.perfkit.PerfKit.Target;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import static io.humainary.devkit.perfkit.PerfKit.Driver.ALL;
+import static io.humainary.devkit.perfkit.PerfKit.execute;
+import static io.humainary.devkit.perfkit.PerfKit.target;
+
+/**
+ * The threshold is per play of the synthetic trace, allowing in the order of
+ * a hundred nanoseconds for the decoding and push path of each of its events.
+ */
+
+final class ReplayDriverTest {
+
+  private static final Target TARGET =
+    target (
+      ReplayDriver.class,
+      "observers",
+      "io.inspectis.observers.spi.alpha.ProviderFactory"
+    );
+
+  private static final String PROFILE = "spi";
+
+  @Test
+  void one () {
+
+    execute (
+      TARGET,
+      PROFILE,
+      ALL,
+      1,
+      1.0 / ( ReplayDriver.EVENTS * 0.1 ),
+      Assertions::fail
+    );
+
+  }
+
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright © 2022 JINSPIRED B.V.
+ */
+
+package io.humainary.observers.perfkit;
+
+import io.humainary.devkit.perfkit.PerfKit.Target;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import static io.humainary.devkit.perfkit.PerfKit.execute;
+import static io.humainary.devkit.perfkit.PerfKit.target;
+
+/**
+ * The thresholds are per emitted event and are anchored on the depth one floor of {@link PushDriverTest},
+ * which folds the same counter events on the emitting thread. Events on the hot counter belong to one observer
+ * and so are folded on one lane, or contend on one closure without sharding, with the threshold set at half that
+ * floor to allow for the hand-off or contention, and not scaling with threads. Events spread across the counters
+ * scale with the number of threads folding them, being the emitting threads without sharding and otherwise the
+ * lesser of the threads and lanes, credited up to four so as not to assume more cores than a build host has,
+ * with each folding thread held to the depth one floor less the hand-off onto a lane.
+ */
+
+@TestMethodOrder (
+  OrderAnnotation.class
+)
+final class ShardDriverTest {
+
+  private static final Target TARGET =
+    target (
+      ShardDriver.class,
+      "observers",
+      "io.inspectis.observers.spi.alpha.ProviderFactory"
+    );
+
+  private static final String PROFILE = "spi";
+
+  private static final String HOT_1     = "counter_inc_hot_1$";
+  private static final String HOT_4     = "counter_inc_hot_4$";
+  private static final String HOT_16    = "counter_inc_hot_16$";
+  private static final String SPREAD_1  = "counter_inc_spread_1$";
+  private static final String SPREAD_4  = "counter_inc_spread_4$";
+  private static final String SPREAD_16 = "counter_inc_spread_16$";
+
+  private static final double DEPTH_1 = 10.0;
+  private static final double HOT     = DEPTH_1 / 2.0;
+  private static final double SPREAD  = DEPTH_1 * 0.8;
+  private static final int    CORES   = 4;
+
+  @Test
+  @Order ( 1 )
+  void one () {
+
+    assertThroughput ( 1 );
+
+  }
+
+  @Test
+  @Order ( 2 )
+  void two () {
+
+    assertThroughput ( 2 );
+
+  }
+
+  @Test
+  @Order ( 4 )
+  void four () {
+
+    assertThroughput ( 4 );
+
+  }
+
+  @Test
+  @Order ( 8 )
+  void eight () {
+
+    assertThroughput ( 8 );
+
+  }
+
+  @Test
+  @Order ( 16 )
+  void sixteen () {
+
+    assertThroughput ( 16 );
+
+  }
+
+  private static void assertThroughput (
+    final int threads
+  ) {
+
+    assertThroughput ( HOT_1, threads, HOT );
+    assertThroughput ( HOT_4, threads, HOT );
+    assertThroughput ( HOT_16, threads, HOT );
+    assertThroughput ( SPREAD_1, threads, spread ( threads, threads ) );
+    assertThroughput ( SPREAD_4, threads, spread ( threads, 4 ) );
+    assertThroughput ( SPREAD_16, threads, spread ( threads, 16 ) );
+
+  }
+
+  private static double spread (
+    final int threads,
+    final int lanes
+  ) {
+
+    return
+      SPREAD * Math.min ( CORES, Math.min ( threads, lanes ) );
+
+  }
+
+  private static void assertThroughput (
+    final String benchmark,
+    final int threads,
+    final double threshold
+  ) {
+
+    execute (
+      TARGET,
+      PROFILE,
+      benchmark,
+      threads,
+      threshold,
+      Assertions::fail
+    );
+
+  }
+
+}
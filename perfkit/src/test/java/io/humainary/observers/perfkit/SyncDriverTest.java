@@ -0,0 +1,73 @@
+/*
+ * Copyright © 2022 JINSPIRED B.V.
+ */
+
+package io.humainary.observers.perfkit;
+
+import io.humainary.devkit.perfkit.PerfKit.Target;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import static io.humainary.devkit.perfkit.PerfKit.execute;
+import static io.humainary.devkit.perfkit.PerfKit.target;
+
+/**
+ * The thresholds are per component. A full synchronization reconciles, and an observation of all
+ * observers visits, each component at a cost expected to stay flat as the context grows, with the
+ * thresholds of the larger sizes allowing for the cache misses of a working set exceeding the caches.
+ */
+
+@TestMethodOrder (
+  OrderAnnotation.class
+)
+final class SyncDriverTest {
+
+  private static final Target TARGET =
+    target (
+      SyncDriver.class,
+      "observers",
+      "io.inspectis.observers.spi.alpha.ProviderFactory"
+    );
+
+  private static final String PROFILE = "spi";
+
+  @Test
+  @Order ( 1 )
+  void sync () {
+
+    assertThroughput ( "context_sync_1k$", 10.0 );
+    assertThroughput ( "context_sync_100k$", 5.0 );
+    assertThroughput ( "context_sync_1m$", 2.0 );
+
+  }
+
+  @Test
+  @Order ( 2 )
+  void observeAll () {
+
+    assertThroughput ( "context_observe_all_1k$", 10.0 );
+    assertThroughput ( "context_observe_all_100k$", 5.0 );
+    assertThroughput ( "context_observe_all_1m$", 2.0 );
+
+  }
+
+  private static void assertThroughput (
+    final String benchmark,
+    final double threshold
+  ) {
+
+    execute (
+      TARGET,
+      PROFILE,
+      benchmark,
+      1,
+      threshold,
+      Assertions::fail
+    );
+
+  }
+
+}
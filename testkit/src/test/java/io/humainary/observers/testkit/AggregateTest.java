@@ -0,0 +1,181 @@
+/*
+ * Copyright © 2022 JINSPIRED B.V.
+ */
+
+package io.humainary.observers.testkit;
+
+import io.humainary.observers.Observers;
+import io.humainary.observers.Observers.Aggregate;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static io.humainary.observers.Observers.*;
+import static io.humainary.substrates.Substrates.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * The test class for the {@link Observers.Aggregate} interface and {@link Observers#rollup} context.
+ *
+ * @author wlouth
+ * @since 1.0
+ */
+
+final class AggregateTest {
+
+  private static final Name A     = name ( "a" );
+  private static final Name AB    = name ( "a.b" );
+  private static final Name EMPTY = name ( "z" );
+
+  private static final Map< Name, Long > VALUES =
+    Map.of (
+      name ( "a.b.one" ), 3L,
+      name ( "a.b.two" ), 5L,
+      name ( "a.c.three" ), 7L
+    );
+
+
+  @Test
+  void count () {
+
+    final var count =
+      Observers.count ();
+
+    // merging the counts of two levels adds them
+    // rather than counting the levels themselves
+
+    assertEquals (
+      5L,
+      count.combine (
+        count.combine (
+          count.lift ( 3L ),
+          count.lift ( 5L )
+        ),
+        count.combine (
+          count.combine (
+            count.lift ( 7L ),
+            count.lift ( 9L )
+          ),
+          count.lift ( 11L )
+        )
+      )
+    );
+
+    assertEquals (
+      1L,
+      count
+        .retract ( 2L, count.lift ( 3L ) )
+        .orElseThrow ()
+    );
+
+  }
+
+
+  @Test
+  void extremes () {
+
+    final var min =
+      Observers.min ();
+
+    final var max =
+      Observers.max ();
+
+    assertNull (
+      min.identity ()
+    );
+
+    assertEquals (
+      3L,
+      min.combine (
+        min.combine ( min.identity (), 5L ),
+        3L
+      )
+    );
+
+    assertEquals (
+      5L,
+      max.combine (
+        max.identity (),
+        max.combine ( 3L, 5L )
+      )
+    );
+
+  }
+
+
+  @Test
+  void rollup () {
+
+    assertRollup ( sum (), 15L, 8L, 0L );
+    assertRollup ( Observers.count (), 3L, 2L, 0L );
+    assertRollup ( Observers.min (), 3L, 3L, null );
+    assertRollup ( Observers.max (), 7L, 5L, null );
+
+  }
+
+
+  private static void assertRollup (
+    final Aggregate< Long > aggregate,
+    final Long a,
+    final Long ab,
+    final Long empty
+  ) {
+
+    final Observers.Context< Long > context =
+      context (
+        lookup (
+          VALUES::get
+        ),
+        optic (),
+        environment ()
+      );
+
+    final var rollup =
+      Observers.rollup (
+        context,
+        aggregate,
+        environment ()
+      );
+
+    for ( final var name : VALUES.keySet () ) {
+      context.observer ( name ).observe ();
+    }
+
+    assertEquals (
+      a,
+      value ( rollup, A )
+    );
+
+    assertEquals (
+      ab,
+      value ( rollup, AB )
+    );
+
+    assertEquals (
+      empty,
+      value ( rollup, EMPTY )
+    );
+
+    rollup.close ();
+    context.close ();
+
+  }
+
+
+  private static Long value (
+    final Observers.Context< Long > rollup,
+    final Name prefix
+  ) {
+
+    final var handle =
+      rollup.handle ( prefix );
+
+    handle.observe ();
+
+    return
+      handle.value ();
+
+  }
+
+}
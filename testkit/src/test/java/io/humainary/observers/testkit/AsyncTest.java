@@ -0,0 +1,207 @@
+/*
+ * Copyright © 2022 JINSPIRED B.V.
+ */
+
+package io.humainary.observers.testkit;
+
+import io.humainary.observers.Observers;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static io.humainary.observers.Observers.asyncLens;
+import static io.humainary.observers.Observers.asyncOptic;
+import static io.humainary.substrates.Substrates.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The test class for the {@link Observers.AsyncOptic} interface.
+ *
+ * @author wlouth
+ * @since 1.0
+ */
+
+final class AsyncTest {
+
+  private static final Name N1 = name ( "name#1" );
+  private static final Name N2 = name ( "name#2" );
+
+  private static final Duration TIMEOUT = Duration.ofSeconds ( 5L );
+  private static final Duration SHORT   = Duration.ofMillis ( 100L );
+
+
+  @Test
+  void observeAsync () {
+
+    final var context =
+      Observers.< Void, AtomicInteger, Integer, Integer > context (
+        name -> new AtomicInteger (),
+        asyncOptic (
+          asyncLens (
+            ( closure, counter ) ->
+              counter.incrementAndGet ()
+          ),
+          TIMEOUT
+        ),
+        environment ()
+      );
+
+    final var observer =
+      context.observer ( N1 );
+
+    assertEquals (
+      1,
+      observer
+        .observeAsync ()
+        .toCompletableFuture ()
+        .join ()
+    );
+
+    assertEquals (
+      2,
+      observer
+        .observeAsync ()
+        .toCompletableFuture ()
+        .join ()
+    );
+
+  }
+
+
+  @Test
+  void observeAllAsync () {
+
+    final var context =
+      Observers.< Void, AtomicInteger, Integer, Integer > context (
+        name -> new AtomicInteger (),
+        asyncOptic (
+          asyncLens (
+            ( closure, counter ) ->
+              counter.incrementAndGet ()
+          ),
+          TIMEOUT
+        ),
+        environment ()
+      );
+
+    context.observer ( N1 );
+    context.observer ( N2 );
+
+    assertEquals (
+      2,
+      context
+        .observeAllAsync ()
+        .toCompletableFuture ()
+        .join ()
+    );
+
+  }
+
+
+
+  @Test
+  void inFlight () {
+
+    final var captures =
+      new AtomicInteger ();
+
+    // the first capture hangs until completed below
+
+    final var hung =
+      new CompletableFuture< Integer > ();
+
+    final var pending =
+      new AtomicReference<> ( hung );
+
+    final var context =
+      Observers.< Void, Object, Integer, Integer > context (
+        name -> name,
+        asyncOptic (
+          ( closure, observable ) -> {
+            captures.incrementAndGet ();
+            return
+              pending.get ();
+          },
+          SHORT
+        ),
+        environment ()
+      );
+
+    final var observer =
+      context.observer ( N1 );
+
+    for ( var i = 0; i < 3; i++ ) {
+
+      final var stage =
+        observer
+          .observeAsync ()
+          .toCompletableFuture ();
+
+      final var thrown =
+        assertThrows (
+          CompletionException.class,
+          stage::join
+        );
+
+      assertTrue (
+        thrown.getCause () instanceof TimeoutException
+      );
+
+    }
+
+    // the timed-out stages did not start further captures
+
+    assertEquals (
+      1,
+      captures.get ()
+    );
+
+    pending.set (
+      CompletableFuture.completedFuture ( 2 )
+    );
+
+    // a call joining the hung capture completes with its late
+    // result, by which time the capture has been released
+
+    final var joined =
+      observer
+        .observeAsync ()
+        .toCompletableFuture ();
+
+    hung.complete ( 1 );
+
+    assertEquals (
+      1,
+      joined.join ()
+    );
+
+    assertEquals (
+      1,
+      captures.get ()
+    );
+
+    // with the hung capture completed a new one is started
+
+    assertEquals (
+      2,
+      observer
+        .observeAsync ()
+        .toCompletableFuture ()
+        .join ()
+    );
+
+    assertEquals (
+      2,
+      captures.get ()
+    );
+
+  }
+
+}
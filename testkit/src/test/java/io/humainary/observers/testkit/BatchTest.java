@@ -0,0 +1,114 @@
+/*
+ * Copyright © 2022 JINSPIRED B.V.
+ */
+
+package io.humainary.observers.testkit;
+
+import io.humainary.observers.Observers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.humainary.observers.Observers.operant;
+import static io.humainary.observers.Observers.optic;
+import static io.humainary.substrates.Substrates.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * The test class for the {@link Observers.Context#observeAll()} and {@link Observers.Observations} interfaces.
+ *
+ * @author wlouth
+ * @since 1.0
+ */
+
+final class BatchTest {
+
+  private static final Name N1 = name ( "name#1" );
+  private static final Name N2 = name ( "name#2" );
+
+  private Observers.Context< Integer > context;
+
+  @BeforeEach
+  void setup () {
+
+    context =
+      Observers.context (
+        name -> new AtomicInteger (),
+        optic (
+          operant (
+            AtomicInteger::incrementAndGet
+          )
+        ),
+        environment ()
+      );
+
+  }
+
+
+  @Test
+  void observeAll () {
+
+    final List< Observers.Observations< Integer > > batches =
+      new ArrayList<> ();
+
+    final var subscription =
+      context.batches (
+        batches::add
+      );
+
+    context.observer ( N1 );
+    context.observer ( N2 );
+
+    context.sync ();
+
+    assertEquals (
+      2,
+      context.observeAll ()
+    );
+
+    assertEquals (
+      1,
+      context.observe (
+        List.of ( N1 )
+      )
+    );
+
+    subscription.close ();
+
+    assertEquals (
+      2,
+      batches.size ()
+    );
+
+    final var first =
+      batches.get ( 0 );
+
+    assertEquals (
+      2,
+      first.size ()
+    );
+
+    assertEquals (
+      1,
+      first.result ( 0 )
+    );
+
+    final var second =
+      batches.get ( 1 );
+
+    assertEquals (
+      N1,
+      second.name ( 0 )
+    );
+
+    assertEquals (
+      2,
+      second.result ( 0 )
+    );
+
+  }
+
+}
@@ -0,0 +1,297 @@
+/*
+ * Copyright © 2022 JINSPIRED B.V.
+ */
+
+package io.humainary.observers.testkit;
+
+import io.humainary.observers.Observers;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static io.humainary.observers.Observers.*;
+import static io.humainary.substrates.Substrates.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * The test class for the {@link Observers#CACHE_TTL}, {@link Observers#CACHE_STALENESS}
+ * and {@link Observers#CACHE_SINGLE_FLIGHT} properties.
+ *
+ * @author wlouth
+ * @since 1.0
+ */
+
+final class CacheTest {
+
+  private static final Name N1      = name ( "name#1" );
+  private static final int  THREADS = 8;
+
+
+  @Test
+  void observe () {
+
+    final var counter =
+      new AtomicInteger ();
+
+    final var context =
+      Observers.context (
+        name -> counter,
+        optic (
+          operant (
+            AtomicInteger::incrementAndGet
+          )
+        ),
+        environment (
+          lookup (
+            path ->
+              path == CACHE_TTL
+              ? "60000"
+              : null
+          )
+        )
+      );
+
+    final var handle =
+      context.handle ( N1 );
+
+    handle.observe ();
+    handle.observe ();
+
+    assertEquals (
+      1,
+      handle.value ()
+    );
+
+    handle
+      .observer ()
+      .invalidate ();
+
+    handle.observe ();
+
+    assertEquals (
+      2,
+      handle.value ()
+    );
+
+  }
+
+
+
+  @Test
+  void singleFlight ()
+  throws InterruptedException, ExecutionException, TimeoutException {
+
+    final var counter =
+      new AtomicInteger ();
+
+    final var gate =
+      new AtomicReference<> ( new CountDownLatch ( 0 ) );
+
+    final var context =
+      context (
+        counter,
+        gate,
+        "60000",
+        "0"
+      );
+
+    final var handle =
+      context.handle ( N1 );
+
+    handle.observe ();
+
+    handle
+      .observer ()
+      .invalidate ();
+
+    // the lens blocks until every caller has arrived
+
+    final var release =
+      new CountDownLatch ( 1 );
+
+    gate.set ( release );
+
+    final var start =
+      new CountDownLatch ( 1 );
+
+    final var callers =
+      new ArrayList< CompletableFuture< Void > > ();
+
+    for ( var i = 0; i < THREADS; i++ ) {
+      callers.add (
+        CompletableFuture.runAsync (
+          () -> {
+            await ( start );
+            handle.observe ();
+          },
+          runnable -> new Thread ( runnable ).start ()
+        )
+      );
+    }
+
+    start.countDown ();
+
+    Thread.sleep ( 200L );
+
+    release.countDown ();
+
+    for ( final var caller : callers ) {
+      caller.get ( 5L, TimeUnit.SECONDS );
+    }
+
+    // the expired result is refreshed by a single capture
+
+    assertEquals (
+      2,
+      counter.get ()
+    );
+
+    assertEquals (
+      2,
+      handle.value ()
+    );
+
+    context.close ();
+
+  }
+
+
+  @Test
+  void staleness ()
+  throws InterruptedException, ExecutionException, TimeoutException {
+
+    final var counter =
+      new AtomicInteger ();
+
+    final var gate =
+      new AtomicReference<> ( new CountDownLatch ( 0 ) );
+
+    final var context =
+      context (
+        counter,
+        gate,
+        "50",
+        "60000"
+      );
+
+    final var handle =
+      context.handle ( N1 );
+
+    handle.observe ();
+
+    // expired but still within the staleness allowance
+
+    Thread.sleep ( 100L );
+
+    final var release =
+      new CountDownLatch ( 1 );
+
+    gate.set ( release );
+
+    final var refresh =
+      CompletableFuture.runAsync (
+        handle::observe,
+        runnable -> new Thread ( runnable ).start ()
+      );
+
+    final var deadline =
+      System.currentTimeMillis () + 5000L;
+
+    while ( counter.get () < 2 && System.currentTimeMillis () < deadline ) {
+      Thread.sleep ( 10L );
+    }
+
+    // with the refresh blocked in the lens, another caller is
+    // served the stale result without waiting on the refresh
+
+    final var stale =
+      CompletableFuture.runAsync (
+        handle::observe,
+        runnable -> new Thread ( runnable ).start ()
+      );
+
+    stale.get ( 1L, TimeUnit.SECONDS );
+
+    assertEquals (
+      1,
+      handle.value ()
+    );
+
+    assertFalse (
+      refresh.isDone ()
+    );
+
+    release.countDown ();
+
+    refresh.get ( 5L, TimeUnit.SECONDS );
+
+    assertEquals (
+      2,
+      handle.value ()
+    );
+
+    context.close ();
+
+  }
+
+
+  private static Observers.Context< Integer > context (
+    final AtomicInteger counter,
+    final AtomicReference< CountDownLatch > gate,
+    final String ttl,
+    final String staleness
+  ) {
+
+    // the result is the number of captures, with each
+    // capture counted before waiting on the current gate
+
+    return
+      Observers.context (
+        name -> counter,
+        optic (
+          lens (
+            ( AtomicInteger captures ) -> {
+              final var count = captures.incrementAndGet ();
+              await ( gate.get () );
+              return count;
+            }
+          )
+        ),
+        environment (
+          lookup (
+            path ->
+              path == CACHE_TTL
+              ? ttl
+              : path == CACHE_STALENESS
+                ? staleness
+                : path == CACHE_SINGLE_FLIGHT
+                  ? "true"
+                  : null
+          )
+        )
+      );
+
+  }
+
+
+  private static void await (
+    final CountDownLatch latch
+  ) {
+
+    try {
+      latch.await ();
+    } catch ( final InterruptedException e ) {
+      Thread.currentThread ().interrupt ();
+    }
+
+  }
+
+}
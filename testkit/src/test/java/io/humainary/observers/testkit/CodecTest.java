@@ -0,0 +1,333 @@
+/*
+ * Copyright © 2022 JINSPIRED B.V.
+ */
+
+package io.humainary.observers.testkit;
+
+import io.humainary.observers.Observers;
+import io.humainary.observers.Observers.Codec;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static io.humainary.observers.Observers.*;
+import static io.humainary.substrates.Substrates.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * The test class for the {@link Observers.Codec} interface and {@link Observers#PERSISTENCE} header.
+ *
+ * @author wlouth
+ * @since 1.0
+ */
+
+final class CodecTest {
+
+  private static final Name N1 = name ( "name#1" );
+
+
+  @Test
+  void roundtrip () {
+
+    assertRoundtrip ( longCodec (), Long.MIN_VALUE, 42L );
+    assertRoundtrip ( doubleCodec (), -0.5, Double.MAX_VALUE );
+    assertRoundtrip ( stringCodec (), "", "observer" );
+
+  }
+
+
+  @Test
+  void overflow () {
+
+    assertOverflow ( longCodec (), 42L );
+    assertOverflow ( doubleCodec (), 0.5 );
+    assertOverflow ( stringCodec (), "observer" );
+
+  }
+
+
+  @Test
+  void schema ()
+  throws IOException {
+
+    final var directory =
+      Files.createTempDirectory (
+        "observers"
+      );
+
+    final var file =
+      directory.resolve (
+        "observers.map"
+      );
+
+    try {
+
+      final var context =
+        context ( file.toString (), "1" );
+
+      context.observer ( N1 ).observe ();
+      context.close ();
+
+      assertThrows (
+        IllegalStateException.class,
+        () -> context ( file.toString (), "2" )
+      );
+
+      // the matching schema still reattaches
+
+      context ( file.toString (), "1" ).close ();
+
+    } finally {
+
+      Files.deleteIfExists ( file );
+      Files.delete ( directory );
+
+    }
+
+  }
+
+
+  @Test
+  void restart ()
+  throws IOException {
+
+    final var directory =
+      Files.createTempDirectory (
+        "observers"
+      );
+
+    final var file =
+      directory.resolve (
+        "observers.map"
+      );
+
+    final var bootstraps =
+      new AtomicInteger ();
+
+    final var state =
+      new AtomicReference< String > ();
+
+    try {
+
+      final var context =
+        context ( file.toString (), bootstraps, state );
+
+      final var handle =
+        context.handle ( N1 );
+
+      handle.observe ();
+      handle.observe ();
+
+      assertEquals (
+        2L,
+        handle.value ()
+      );
+
+      context.close ();
+
+      // reattaching restores the closure state and result
+      // of the observer without bootstrapping it again
+
+      final var reopened =
+        context ( file.toString (), bootstraps, state );
+
+      final var restored =
+        reopened.handle ( N1 );
+
+      assertEquals (
+        2L,
+        restored.value ()
+      );
+
+      assertEquals (
+        1,
+        bootstraps.get ()
+      );
+
+      restored.observe ();
+
+      assertEquals (
+        "2",
+        state.get ()
+      );
+
+      assertEquals (
+        3L,
+        restored.value ()
+      );
+
+      reopened.close ();
+
+    } finally {
+
+      Files.deleteIfExists ( file );
+      Files.delete ( directory );
+
+    }
+
+  }
+
+
+  private static < T > void assertRoundtrip (
+    final Codec< T > codec,
+    final T first,
+    final T second
+  ) {
+
+    final var buffer =
+      ByteBuffer.allocate ( 64 );
+
+    codec.encode ( first, buffer );
+    codec.encode ( null, buffer );
+    codec.encode ( second, buffer );
+
+    final var written =
+      buffer.position ();
+
+    buffer.flip ();
+
+    assertEquals ( first, codec.decode ( buffer ) );
+    assertNull ( codec.decode ( buffer ) );
+    assertEquals ( second, codec.decode ( buffer ) );
+
+    assertEquals (
+      written,
+      buffer.position ()
+    );
+
+    // a truncated value leaves the position in place
+
+    buffer.limit ( written - 1 );
+    buffer.position ( written - codecWidth ( codec, second ) );
+
+    final var position =
+      buffer.position ();
+
+    assertThrows (
+      BufferUnderflowException.class,
+      () -> codec.decode ( buffer )
+    );
+
+    assertEquals (
+      position,
+      buffer.position ()
+    );
+
+  }
+
+
+  private static < T > void assertOverflow (
+    final Codec< T > codec,
+    final T value
+  ) {
+
+    final var buffer =
+      ByteBuffer.allocate ( codecWidth ( codec, value ) - 1 );
+
+    assertThrows (
+      BufferOverflowException.class,
+      () -> codec.encode ( value, buffer )
+    );
+
+    assertEquals (
+      0,
+      buffer.position ()
+    );
+
+  }
+
+
+  private static < T > int codecWidth (
+    final Codec< T > codec,
+    final T value
+  ) {
+
+    final var buffer =
+      ByteBuffer.allocate ( 64 );
+
+    codec.encode ( value, buffer );
+
+    return
+      buffer.position ();
+
+  }
+
+
+  private static Observers.Context< Long > context (
+    final String path,
+    final AtomicInteger bootstraps,
+    final AtomicReference< String > state
+  ) {
+
+    // the closure state is the number of observations,
+    // which the operant records before updating it
+
+    return
+      Observers.context (
+        lookup ( name -> 1L ),
+        encoded (
+          Observers.< String, Long, Long, Long >optic (
+            ( closure, name ) -> {
+              bootstraps.incrementAndGet ();
+              closure.set ( "0" );
+              return 0L;
+            },
+            lens (),
+            ( closure, prev, value ) -> {
+              state.set ( closure.get () );
+              closure.set ( Long.toString ( prev + value ) );
+              return prev + value;
+            }
+          ),
+          stringCodec (),
+          longCodec ()
+        ),
+        environment (
+          lookup (
+            property ->
+              property == PERSISTENCE
+              ? path
+              : null
+          )
+        )
+      );
+
+  }
+
+
+  private static Observers.Context< Long > context (
+    final String path,
+    final String schema
+  ) {
+
+    return
+      Observers.context (
+        lookup ( name -> 1L ),
+        encoded (
+          optic (),
+          stringCodec (),
+          longCodec ()
+        ),
+        environment (
+          lookup (
+            property ->
+              property == PERSISTENCE
+              ? path
+              : property == PERSISTENCE_SCHEMA
+                ? schema
+                : null
+          )
+        )
+      );
+
+  }
+
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright © 2022 JINSPIRED B.V.
+ */
+
+package io.humainary.observers.testkit;
+
+import io.humainary.counters.Counters;
+import io.humainary.observers.Observers;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static io.humainary.observers.Observers.*;
+import static io.humainary.substrates.Substrates.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The test class for the {@link Observers#CONFLATION_INTERVAL} property.
+ *
+ * @author wlouth
+ * @since 1.0
+ */
+
+final class ConflationTest {
+
+  private static final Name N1       = name ( "name#1" );
+  private static final Long ZERO     = 0L;
+  private static final int  EVENTS   = 100;
+  private static final long INTERVAL = 50L;
+
+
+  @Test
+  void trailing ()
+  throws InterruptedException {
+
+    final var counters =
+      Counters.context ();
+
+    final var counter =
+      counters.counter ( N1 );
+
+    final Observers.Context< Long > context =
+      context (
+        counters,
+        Event::emittance,
+        optic (
+          bootstrap ( ZERO ),
+          lens (),
+          operant ( total -> ++total )
+        ),
+        environment (
+          lookup (
+            path ->
+              path == CONFLATION_INTERVAL
+              ? Long.toString ( INTERVAL )
+              : null
+          )
+        )
+      );
+
+    final List< Long > published =
+      new CopyOnWriteArrayList<> ();
+
+    context.subscribe (
+      subscriber (
+        event ->
+          published.add (
+            event.emittance ()
+          )
+      )
+    );
+
+    for ( var i = 0; i < EVENTS; i++ ) {
+      counter.inc ();
+    }
+
+    // the counter goes quiet without a flush, with
+    // the last result expected on the trailing edge
+
+    final var deadline =
+      System.currentTimeMillis () + 5000L;
+
+    while (
+      ( published.isEmpty () || published.get ( published.size () - 1 ) != EVENTS )
+        && System.currentTimeMillis () < deadline
+    ) {
+      Thread.sleep ( INTERVAL );
+    }
+
+    assertEquals (
+      (long) EVENTS,
+      published.get ( published.size () - 1 )
+    );
+
+    assertTrue (
+      published.size () < EVENTS
+    );
+
+    context.close ();
+
+  }
+
+}
@@ -0,0 +1,321 @@
+/*
+ * Copyright © 2022 JINSPIRED B.V.
+ */
+
+package io.humainary.observers.testkit;
+
+import io.humainary.observers.Observers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static io.humainary.observers.Observers.*;
+import static io.humainary.substrates.Substrates.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * The test class for the {@link Observers.Encoder} and {@link Observers.Decoder} interfaces.
+ *
+ * @author wlouth
+ * @since 1.0
+ */
+
+final class EncoderTest {
+
+  private static final Name N1 = name ( "name#1" );
+  private static final Name N2 = name ( "name#2" );
+
+  private Observers.Context< Long > context;
+
+  @BeforeEach
+  void setup () {
+
+    context =
+      Observers.context (
+        lookup ( name -> ( name == N1 ) ? 1L : 2L ),
+        optic (),
+        environment ()
+      );
+
+  }
+
+
+  @Test
+  void roundtrip () {
+
+    final var output =
+      new ByteArrayOutputStream ();
+
+    try (
+      final var encoder =
+        encoder (
+          Channels.newChannel ( output ),
+          longCodec (),
+          1024
+        )
+    ) {
+
+      final var subscription =
+        context.batches (
+          encoder
+        );
+
+      context.observe (
+        List.of ( N1, N2 )
+      );
+
+      subscription.close ();
+
+    }
+
+    final List< Map.Entry< Name, Long > > entries =
+      new ArrayList<> ();
+
+    var frames = 0;
+
+    try (
+      final var decoder =
+        decoder (
+          Channels.newChannel (
+            new ByteArrayInputStream (
+              output.toByteArray ()
+            )
+          ),
+          longCodec ()
+        )
+    ) {
+
+      while (
+        decoder.decode (
+          ( name, result ) ->
+            entries.add (
+              Map.entry (
+                name,
+                result
+              )
+            )
+        )
+      ) {
+        frames++;
+      }
+
+    }
+
+    assertEquals (
+      1,
+      frames
+    );
+
+    assertEquals (
+      List.of (
+        Map.entry ( N1, 1L ),
+        Map.entry ( N2, 2L )
+      ),
+      entries
+    );
+
+  }
+
+
+  @Test
+  void deltas () {
+
+    assertDeltas (
+      longCodec (),
+      new Long[][]{
+        {1L, 100L},
+        {5L, -7L},
+        {3L, 100L}
+      }
+    );
+
+    assertDeltas (
+      doubleCodec (),
+      new Double[][]{
+        {0.5, -1.0},
+        {0.25, 1.0E300},
+        {0.5, Double.MIN_VALUE}
+      }
+    );
+
+  }
+
+
+  @Test
+  void header () {
+
+    final var output =
+      new ByteArrayOutputStream ();
+
+    try (
+      final var encoder =
+        encoder (
+          Channels.newChannel ( output ),
+          stringCodec (),
+          1024
+        )
+    ) {
+
+      encoder.flush ();
+
+    }
+
+    // results written without delta encoding cannot
+    // be read with a codec decoding deltas
+
+    assertThrows (
+      UncheckedIOException.class,
+      () -> decode ( output.toByteArray () )
+    );
+
+    assertThrows (
+      UncheckedIOException.class,
+      () -> decode ( new byte[]{1, 2, 3, 4, 5, 6, 7, 8} )
+    );
+
+  }
+
+
+  /**
+   * Encodes the observers of both names once per round, with each round flushed as a frame of its own,
+   * so that the results of the later rounds are written relative to those of the preceding round.
+   */
+
+  private static < R > void assertDeltas (
+    final Codec< R > codec,
+    final R[][] rounds
+  ) {
+
+    final Map< Name, R > values =
+      new ConcurrentHashMap<> ();
+
+    final Observers.Context< R > context =
+      Observers.context (
+        lookup ( values::get ),
+        optic (),
+        environment ()
+      );
+
+    final var output =
+      new ByteArrayOutputStream ();
+
+    final List< Map.Entry< Name, R > > expected =
+      new ArrayList<> ();
+
+    try (
+      final var encoder =
+        encoder (
+          Channels.newChannel ( output ),
+          codec,
+          1024
+        )
+    ) {
+
+      final var subscription =
+        context.batches (
+          encoder
+        );
+
+      for ( final var round : rounds ) {
+
+        values.put ( N1, round[0] );
+        values.put ( N2, round[1] );
+
+        context.observe (
+          List.of ( N1, N2 )
+        );
+
+        encoder.flush ();
+
+        expected.add ( Map.entry ( N1, round[0] ) );
+        expected.add ( Map.entry ( N2, round[1] ) );
+
+      }
+
+      subscription.close ();
+
+    }
+
+    final List< Map.Entry< Name, R > > entries =
+      new ArrayList<> ();
+
+    var frames = 0;
+
+    try (
+      final var decoder =
+        decoder (
+          Channels.newChannel (
+            new ByteArrayInputStream (
+              output.toByteArray ()
+            )
+          ),
+          codec
+        )
+    ) {
+
+      while (
+        decoder.decode (
+          ( name, result ) ->
+            entries.add (
+              Map.entry (
+                name,
+                result
+              )
+            )
+        )
+      ) {
+        frames++;
+      }
+
+    }
+
+    assertEquals (
+      rounds.length,
+      frames
+    );
+
+    assertEquals (
+      expected,
+      entries
+    );
+
+    context.close ();
+
+  }
+
+
+  private static void decode (
+    final byte[] bytes
+  ) {
+
+    try (
+      final var decoder =
+        decoder (
+          Channels.newChannel (
+            new ByteArrayInputStream (
+              bytes
+            )
+          ),
+          longCodec ()
+        )
+    ) {
+
+      decoder.decode (
+        ( name, result ) -> {
+        }
+      );
+
+    }
+
+  }
+
+}
@@ -0,0 +1,376 @@
+/*
+ * Copyright © 2022 JINSPIRED B.V.
+ */
+
+package io.humainary.observers.testkit;
+
+import io.humainary.counters.Counters;
+import io.humainary.observers.Observers;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.humainary.observers.Observers.*;
+import static io.humainary.substrates.Substrates.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The test class for the {@link Observers#OBSERVER_LIMIT} property.
+ *
+ * @author wlouth
+ * @since 1.0
+ */
+
+final class EvictionTest {
+
+  private static final Name N1 = name ( "name#1" );
+  private static final Name N2 = name ( "name#2" );
+  private static final Name N3 = name ( "name#3" );
+
+  private static final Name A     = name ( "a" );
+  private static final Name AB    = name ( "a.b" );
+  private static final Name ONE   = name ( "a.b.one" );
+  private static final Name TWO   = name ( "a.b.two" );
+  private static final Name THREE = name ( "a.c.three" );
+
+  private static final Map< Name, Long > VALUES =
+    Map.of (
+      ONE, 3L,
+      TWO, 5L,
+      THREE, 7L
+    );
+
+
+  private static Environment limit (
+    final int limit
+  ) {
+
+    final var value =
+      Integer.toString ( limit );
+
+    return
+      environment (
+        lookup (
+          path ->
+            path == OBSERVER_LIMIT
+            ? value
+            : null
+        )
+      );
+
+  }
+
+
+  private static Environment policy (
+    final Eviction eviction,
+    final int limit,
+    final long idle
+  ) {
+
+    final var size =
+      Integer.toString ( limit );
+
+    final var millis =
+      Long.toString ( idle );
+
+    return
+      environment (
+        lookup (
+          path ->
+            path == OBSERVER_LIMIT
+            ? size
+            : path == EVICTION
+              ? eviction.name ()
+              : path == EVICTION_IDLE
+                ? millis
+                : null
+        )
+      );
+
+  }
+
+
+  private static Observers.Context< Integer > counting (
+    final Environment environment
+  ) {
+
+    return
+      Observers.context (
+        name -> new AtomicInteger (),
+        optic (
+          operant (
+            AtomicInteger::incrementAndGet
+          )
+        ),
+        environment
+      );
+
+  }
+
+
+  @Test
+  void evict () {
+
+    final var context =
+      Observers.context (
+        name -> new AtomicInteger (),
+        optic (
+          operant (
+            AtomicInteger::incrementAndGet
+          )
+        ),
+        limit ( 1 )
+      );
+
+    final List< Name > evicted =
+      new ArrayList<> ();
+
+    context.evictions (
+      ( name, result ) ->
+        evicted.add ( name )
+    );
+
+    context.observer ( N1 ).observe ();
+    context.observer ( N1 ).observe ();
+    context.observer ( N2 ).observe ();
+
+    assertEquals (
+      List.of ( N1 ),
+      evicted
+    );
+
+    final var statistics =
+      context.statistics ();
+
+    assertEquals (
+      1,
+      statistics.size ()
+    );
+
+    assertEquals (
+      1L,
+      statistics.hits ()
+    );
+
+    assertEquals (
+      2L,
+      statistics.misses ()
+    );
+
+    assertEquals (
+      1L,
+      statistics.evictions ()
+    );
+
+  }
+
+
+
+  @Test
+  void restart () {
+
+    final var counters =
+      Counters.context ();
+
+    final var c1 =
+      counters.counter ( N1 );
+
+    final var c2 =
+      counters.counter ( N2 );
+
+    final var context =
+      context (
+        counters,
+        Event::emittance,
+        longOptic (
+          longBootstrap ( 0L ),
+          longLens (),
+          longOperant ( total -> total + 1 )
+        ),
+        limit ( 1 )
+      );
+
+    c1.inc ();
+    c1.inc ();
+
+    context.sync ();
+
+    assertEquals (
+      2L,
+      context.observer ( N1 ).value ()
+    );
+
+    // the event of the second counter evicts the first
+    // observer, whose fold then restarts from the bootstrap
+
+    c2.inc ();
+    context.sync ();
+
+    c1.inc ();
+    context.sync ();
+
+    assertEquals (
+      1L,
+      context.observer ( N1 ).value ()
+    );
+
+    context.close ();
+
+  }
+
+
+  @Test
+  void retract () {
+
+    final Observers.Context< Long > context =
+      context (
+        lookup (
+          VALUES::get
+        ),
+        optic (),
+        limit ( 2 )
+      );
+
+    final var rollup =
+      rollup (
+        context,
+        sum (),
+        environment ()
+      );
+
+    context.observer ( ONE ).observe ();
+    context.observer ( TWO ).observe ();
+
+    assertEquals (
+      8L,
+      value ( rollup, AB )
+    );
+
+    // observing a third observer evicts the least recently
+    // used one, whose result is retracted from the roll-up
+
+    context.observer ( THREE ).observe ();
+
+    assertEquals (
+      5L,
+      value ( rollup, AB )
+    );
+
+    assertEquals (
+      12L,
+      value ( rollup, A )
+    );
+
+    rollup.close ();
+    context.close ();
+
+  }
+
+
+  private static Long value (
+    final Observers.Context< Long > rollup,
+    final Name prefix
+  ) {
+
+    final var handle =
+      rollup.handle ( prefix );
+
+    handle.observe ();
+
+    return
+      handle.value ();
+
+  }
+
+
+
+  @Test
+  void lfu () {
+
+    final var context =
+      counting (
+        policy ( Eviction.LFU, 2, 60_000L )
+      );
+
+    final List< Name > evicted =
+      new ArrayList<> ();
+
+    context.evictions (
+      ( name, result ) ->
+        evicted.add ( name )
+    );
+
+    for ( var i = 0; i < 5; i++ ) {
+      context.observer ( N1 ).observe ();
+    }
+
+    // the second observer is the most recently used
+    // but the least frequently used of the two
+
+    context.observer ( N2 ).observe ();
+    context.observer ( N3 ).observe ();
+
+    assertEquals (
+      List.of ( N2 ),
+      evicted
+    );
+
+    assertTrue (
+      context.get ( N1 ).isPresent ()
+    );
+
+    context.close ();
+
+  }
+
+
+  @Test
+  void idle ()
+  throws InterruptedException {
+
+    final var context =
+      counting (
+        policy ( Eviction.IDLE, 16, 500L )
+      );
+
+    final List< Name > evicted =
+      new CopyOnWriteArrayList<> ();
+
+    context.evictions (
+      ( name, result ) ->
+        evicted.add ( name )
+    );
+
+    context.observer ( N1 ).observe ();
+    context.observer ( N2 ).observe ();
+
+    Thread.sleep ( 400L );
+
+    context.observer ( N2 ).observe ();
+
+    Thread.sleep ( 300L );
+
+    // the first observer has been idle for longer than the
+    // idle time, the second, used since, for less than it
+
+    context.observer ( N3 );
+
+    assertEquals (
+      List.of ( N1 ),
+      evicted
+    );
+
+    assertTrue (
+      context.get ( N2 ).isPresent ()
+    );
+
+    context.close ();
+
+  }
+
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright © 2022 JINSPIRED B.V.
+ */
+
+package io.humainary.observers.testkit;
+
+import io.humainary.observers.Observers;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static io.humainary.observers.Observers.doubleLens;
+import static io.humainary.observers.Observers.ewma;
+import static io.humainary.substrates.Substrates.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The test class for the {@link Observers#ewma(Observers.DoubleLens, Duration)} optic.
+ *
+ * @author wlouth
+ * @since 1.0
+ */
+
+final class EwmaTest {
+
+  private static final Name   N1    = name ( "name#1" );
+  private static final double DELTA = 1.0E-9;
+
+
+  private static Observers.DoubleContext context (
+    final AtomicReference< Double > gauge,
+    final Duration halfLife
+  ) {
+
+    return
+      Observers.context (
+        name -> gauge,
+        ewma (
+          doubleLens ( AtomicReference< Double >::get ),
+          halfLife
+        ),
+        environment ()
+      );
+
+  }
+
+
+  @Test
+  void first () {
+
+    final var gauge =
+      new AtomicReference<> ( 10.0 );
+
+    final var context =
+      context (
+        gauge,
+        Duration.ofDays ( 1L )
+      );
+
+    final var observer =
+      context.observer ( N1 );
+
+    observer.observe ();
+
+    // the first observation has no history to decay
+
+    assertEquals (
+      10.0,
+      observer.value (),
+      DELTA
+    );
+
+    context.close ();
+
+  }
+
+
+  @Test
+  void slow () {
+
+    final var gauge =
+      new AtomicReference<> ( 10.0 );
+
+    final var context =
+      context (
+        gauge,
+        Duration.ofDays ( 1L )
+      );
+
+    final var observer =
+      context.observer ( N1 );
+
+    observer.observe ();
+
+    gauge.set ( 20.0 );
+
+    observer.observe ();
+
+    // far within the half-life the average barely moves
+
+    final var value =
+      observer.value ();
+
+    assertTrue (
+      value >= 10.0 && value < 10.001,
+      () -> "unexpected average: " + value
+    );
+
+    context.close ();
+
+  }
+
+
+  @Test
+  void fast ()
+  throws InterruptedException {
+
+    final var gauge =
+      new AtomicReference<> ( 10.0 );
+
+    final var context =
+      context (
+        gauge,
+        Duration.ofNanos ( 1L )
+      );
+
+    final var observer =
+      context.observer ( N1 );
+
+    observer.observe ();
+
+    gauge.set ( 20.0 );
+
+    // many half-lives elapse before the next observation
+
+    Thread.sleep ( 1L );
+
+    observer.observe ();
+
+    assertEquals (
+      20.0,
+      observer.value (),
+      DELTA
+    );
+
+    context.close ();
+
+  }
+
+
+  @Test
+  void halfLife ()
+  throws InterruptedException {
+
+    final var gauge =
+      new AtomicReference<> ( 0.0 );
+
+    final var context =
+      context (
+        gauge,
+        Duration.ofMillis ( 50L )
+      );
+
+    final var observer =
+      context.observer ( N1 );
+
+    observer.observe ();
+
+    gauge.set ( 100.0 );
+
+    Thread.sleep ( 50L );
+
+    observer.observe ();
+
+    // at least one half-life has elapsed, so the average
+    // has moved at least halfway toward the new value but
+    // never beyond it
+
+    final var value =
+      observer.value ();
+
+    assertTrue (
+      value >= 50.0 && value <= 100.0,
+      () -> "unexpected average: " + value
+    );
+
+    context.close ();
+
+  }
+
+
+
+  @Test
+  void invalid () {
+
+    assertThrows (
+      IllegalArgumentException.class,
+      () -> ewma ( doubleLens ( AtomicReference< Double >::get ), Duration.ZERO )
+    );
+
+    assertThrows (
+      IllegalArgumentException.class,
+      () -> ewma ( doubleLens ( AtomicReference< Double >::get ), Duration.ofSeconds ( -1L ) )
+    );
+
+  }
+
+}
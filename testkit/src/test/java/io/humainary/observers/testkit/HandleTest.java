@@ -0,0 +1,100 @@
+/*
+ * Copyright © 2022 JINSPIRED B.V.
+ */
+
+package io.humainary.observers.testkit;
+
+import io.humainary.observers.Observers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.humainary.devkit.testkit.TestKit.capture;
+import static io.humainary.devkit.testkit.TestKit.recorder;
+import static io.humainary.observers.Observers.operant;
+import static io.humainary.observers.Observers.optic;
+import static io.humainary.substrates.Substrates.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * The test class for the {@link Observers.Handle} interface.
+ *
+ * @author wlouth
+ * @since 1.0
+ */
+
+final class HandleTest {
+
+  private static final Name N1 = name ( "name#1" );
+
+  private Observers.Context< Integer > context;
+
+  @BeforeEach
+  void setup () {
+
+    context =
+      Observers.context (
+        name -> new AtomicInteger (),
+        optic (
+          operant (
+            AtomicInteger::incrementAndGet
+          )
+        ),
+        environment ()
+      );
+
+  }
+
+
+  @Test
+  void observe () {
+
+    final var recorder =
+      recorder (
+        context
+      );
+
+    recorder.start ();
+
+    final var handle =
+      context.handle ( N1 );
+
+    assertSame (
+      handle,
+      context.handle ( N1 )
+    );
+
+    handle.observe ();
+
+    context.sync ();
+
+    handle.observe ();
+
+    assertEquals (
+      2,
+      handle.value ()
+    );
+
+    final var capture =
+      recorder
+        .stop ()
+        .orElseThrow (
+          AssertionError::new
+        );
+
+    assertEquals (
+      capture (
+        handle.observer (),
+        1
+      ).to (
+        handle.observer (),
+        2
+      ),
+      capture
+    );
+
+  }
+
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright © 2022 JINSPIRED B.V.
+ */
+
+package io.humainary.observers.testkit;
+
+import io.humainary.counters.Counters;
+import io.humainary.observers.Observers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static io.humainary.devkit.testkit.TestKit.capture;
+import static io.humainary.devkit.testkit.TestKit.recorder;
+import static io.humainary.observers.Observers.*;
+import static io.humainary.substrates.Substrates.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * The test class for the {@link Observers.LongContext} and {@link Observers.LongObserver} interfaces.
+ *
+ * @author wlouth
+ * @since 1.0
+ */
+
+final class LongTest {
+
+  private static final Name N1   = name ( "name#1" );
+  private static final Name N2   = name ( "name#2" );
+  private static final long ZERO = 0L;
+
+  private Observers.LongContext observers;
+  private Counters.Counter      c1;
+  private Counters.Counter      c2;
+
+  @BeforeEach
+  void setup () {
+
+    final var counters =
+      Counters.context ();
+
+    c1 = counters.counter ( N1 );
+    c2 = counters.counter ( N2 );
+
+    observers =
+      context (
+        counters,
+        Event::emittance,
+        longOptic (
+          longBootstrap ( ZERO ),
+          longLens (),
+          longOperant ( total -> total + 1 )
+        ),
+        environment ()
+      );
+
+  }
+
+
+  @Test
+  void subscribe () {
+
+    final var recorder =
+      recorder (
+        observers
+      );
+
+    recorder.start ();
+
+    c1.inc ();
+    c2.inc ();
+
+    c1.inc ();
+    c2.inc ();
+
+    observers.sync ();
+
+    final var o1 =
+      observers.observer ( N1 );
+
+    final var o2 =
+      observers.observer ( N2 );
+
+    o1.observe ();
+    o2.observe ();
+
+    final var capture =
+      recorder
+        .stop ()
+        .orElseThrow (
+          AssertionError::new
+        );
+
+    assertEquals (
+      capture (
+        o1,
+        2L
+      ).to (
+        o2,
+        2L
+      ),
+      capture
+    );
+
+    assertEquals (
+      2L,
+      o1.value ()
+    );
+
+    assertEquals (
+      2L,
+      o2.value ()
+    );
+
+  }
+
+}
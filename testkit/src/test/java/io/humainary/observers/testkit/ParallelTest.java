@@ -0,0 +1,195 @@
+/*
+ * Copyright © 2022 JINSPIRED B.V.
+ */
+
+package io.humainary.observers.testkit;
+
+import io.humainary.counters.Counters;
+import io.humainary.observers.Observers;
+import io.humainary.observers.Observers.Execution;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.humainary.observers.Observers.EXECUTION;
+import static io.humainary.observers.Observers.PARALLELISM;
+import static io.humainary.observers.Observers.operant;
+import static io.humainary.observers.Observers.optic;
+import static io.humainary.substrates.Substrates.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The test class for the {@link Observers#PARALLELISM} and {@link Observers#EXECUTION} properties.
+ *
+ * @author wlouth
+ * @since 1.0
+ */
+
+final class ParallelTest {
+
+  private static final int    SIZE  = 64;
+  private static final Name[] NAMES = new Name[SIZE];
+
+  static {
+    for ( var i = 0; i < SIZE; i++ ) {
+      NAMES[i] = name ( "name#" + i );
+    }
+  }
+
+
+  @Test
+  void observeAll () {
+
+    for ( final var execution : Execution.values () ) {
+
+      final var context =
+        Observers.context (
+          name -> new AtomicInteger (),
+          optic (
+            operant (
+              AtomicInteger::incrementAndGet
+            )
+          ),
+          parallel ( execution )
+        );
+
+      final List< Observers.Observations< Integer > > batches =
+        new ArrayList<> ();
+
+      context.batches (
+        batches::add
+      );
+
+      for ( final var name : NAMES ) {
+        context.observer ( name );
+      }
+
+      context.sync ();
+
+      assertEquals (
+        SIZE,
+        context.observeAll ()
+      );
+
+      // a single batch, in no specified order, with
+      // each observer observed exactly once
+
+      assertEquals (
+        1,
+        batches.size ()
+      );
+
+      final var batch =
+        batches.get ( 0 );
+
+      assertEquals (
+        SIZE,
+        batch.size ()
+      );
+
+      final Map< Name, Integer > results =
+        new HashMap<> ();
+
+      for ( var i = 0; i < SIZE; i++ ) {
+        results.put (
+          batch.name ( i ),
+          batch.result ( i )
+        );
+      }
+
+      assertEquals (
+        SIZE,
+        results.size ()
+      );
+
+      for ( final var name : NAMES ) {
+        assertEquals (
+          1,
+          results.get ( name )
+        );
+      }
+
+      context.close ();
+
+    }
+
+  }
+
+
+
+  @Test
+  void sync () {
+
+    for ( final var execution : Execution.values () ) {
+
+      final var counters =
+        Counters.context ();
+
+      for ( final var name : NAMES ) {
+        counters.counter ( name );
+      }
+
+      final Observers.Context< Counters.Counter > context =
+        Observers.context (
+          counters,
+          optic (),
+          parallel ( execution )
+        );
+
+      context.sync ();
+
+      // every partition is synchronized before the call returns
+
+      for ( final var name : NAMES ) {
+        assertTrue (
+          context.get ( name ).isPresent ()
+        );
+      }
+
+      assertEquals (
+        SIZE,
+        context.statistics ().size ()
+      );
+
+      final var retained =
+        context.get ( NAMES[0] ).orElseThrow ();
+
+      context.sync ();
+
+      assertSame (
+        retained,
+        context.get ( NAMES[0] ).orElseThrow ()
+      );
+
+      context.close ();
+
+    }
+
+  }
+
+
+  private static Environment parallel (
+    final Execution execution
+  ) {
+
+    return
+      environment (
+        lookup (
+          path ->
+            path == PARALLELISM
+            ? "4"
+            : path == EXECUTION
+              ? execution.name ()
+              : null
+        )
+      );
+
+  }
+
+}
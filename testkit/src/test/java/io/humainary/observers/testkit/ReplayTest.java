@@ -0,0 +1,139 @@
+/*
+ * Copyright © 2022 JINSPIRED B.V.
+ */
+
+package io.humainary.observers.testkit;
+
+import io.humainary.counters.Counters;
+import io.humainary.observers.Observers;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+
+import static io.humainary.observers.Observers.*;
+import static io.humainary.substrates.Substrates.*;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * The test class for the {@link Observers.Recording} and {@link Observers.Replay} interfaces.
+ *
+ * @author wlouth
+ * @since 1.0
+ */
+
+final class ReplayTest {
+
+  private static final Name N1   = name ( "name#1" );
+  private static final Name N2   = name ( "name#2" );
+  private static final Long ZERO = 0L;
+
+
+  @Test
+  void roundtrip ()
+  throws IOException {
+
+    final var file =
+      Files.createTempFile (
+        "observers",
+        ".trace"
+      );
+
+    try {
+
+      final var counters =
+        Counters.context ();
+
+      final var c1 = counters.counter ( N1 );
+      final var c2 = counters.counter ( N2 );
+
+      try (
+        final var channel = FileChannel.open ( file, WRITE );
+        final var recording = record ( counters, longCodec (), channel )
+      ) {
+
+        c1.inc ();
+        c2.inc ();
+        c1.inc ();
+
+        assertEquals (
+          3L,
+          recording.events ()
+        );
+
+      }
+
+      try (
+        final var channel = FileChannel.open ( file, READ )
+      ) {
+
+        final var replay =
+          replay (
+            channel,
+            longCodec ()
+          );
+
+        final Observers.Context< Long > context =
+          context (
+            replay,
+            Event::emittance,
+            optic (
+              bootstrap ( ZERO ),
+              lens (),
+              operant ( total -> ++total )
+            ),
+            environment ()
+          );
+
+        // played twice, as once per benchmark iteration
+
+        for ( var i = 1; i <= 2; i++ ) {
+
+          assertEquals (
+            3L,
+            replay
+              .play ( Pace.MAXIMUM )
+              .events ()
+          );
+
+          assertEquals (
+            2L * i,
+            value ( context, N1 )
+          );
+
+          assertEquals (
+            (long) i,
+            value ( context, N2 )
+          );
+
+        }
+
+        context.close ();
+
+      }
+
+    } finally {
+
+      Files.delete ( file );
+
+    }
+
+  }
+
+
+  private static Long value (
+    final Observers.Context< Long > context,
+    final Name name
+  ) {
+
+    return
+      context
+        .handle ( name )
+        .value ();
+
+  }
+
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright © 2022 JINSPIRED B.V.
+ */
+
+package io.humainary.observers.testkit;
+
+import io.humainary.observers.Observers;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static io.humainary.observers.Observers.adaptive;
+import static io.humainary.observers.Observers.fixed;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * The test class for the {@link Observers.Sampling} interface.
+ *
+ * @author wlouth
+ * @since 1.0
+ */
+
+final class SamplingTest {
+
+  private static final Duration MIN = Duration.ofNanos ( 100L );
+  private static final Duration MAX = Duration.ofNanos ( 1_000L );
+
+
+  @Test
+  void fixedPeriod () {
+
+    final var sampling =
+      fixed ( MIN );
+
+    assertEquals (
+      100L,
+      sampling.initial ()
+    );
+
+    assertEquals (
+      100L,
+      sampling.next ( 100L, false )
+    );
+
+    assertEquals (
+      100L,
+      sampling.next ( 100L, true )
+    );
+
+  }
+
+
+  @Test
+  void fixedInvalid () {
+
+    assertThrows (
+      IllegalArgumentException.class,
+      () -> fixed ( Duration.ZERO )
+    );
+
+    assertThrows (
+      IllegalArgumentException.class,
+      () -> fixed ( MIN.negated () )
+    );
+
+  }
+
+
+  @Test
+  void adaptiveBackoff () {
+
+    final var sampling =
+      adaptive (
+        MIN,
+        MAX,
+        2.0
+      );
+
+    assertEquals (
+      100L,
+      sampling.initial ()
+    );
+
+    var period =
+      sampling.initial ();
+
+    period = sampling.next ( period, false );
+
+    assertEquals (
+      200L,
+      period
+    );
+
+    period = sampling.next ( period, false );
+    period = sampling.next ( period, false );
+
+    assertEquals (
+      800L,
+      period
+    );
+
+    // capped at the maximum
+
+    period = sampling.next ( period, false );
+
+    assertEquals (
+      1_000L,
+      period
+    );
+
+    assertEquals (
+      1_000L,
+      sampling.next ( period, false )
+    );
+
+    // reset to the minimum on change
+
+    assertEquals (
+      100L,
+      sampling.next ( period, true )
+    );
+
+  }
+
+
+  @Test
+  void adaptiveEqualBounds () {
+
+    final var sampling =
+      adaptive (
+        MAX,
+        MAX,
+        2.0
+      );
+
+    assertEquals (
+      1_000L,
+      sampling.next ( sampling.initial (), false )
+    );
+
+  }
+
+
+  @Test
+  void adaptiveInvalid () {
+
+    assertThrows (
+      IllegalArgumentException.class,
+      () -> adaptive ( Duration.ZERO, MAX, 2.0 )
+    );
+
+    assertThrows (
+      IllegalArgumentException.class,
+      () -> adaptive ( MIN.negated (), MAX, 2.0 )
+    );
+
+    assertThrows (
+      IllegalArgumentException.class,
+      () -> adaptive ( MAX, MIN, 2.0 )
+    );
+
+    assertThrows (
+      IllegalArgumentException.class,
+      () -> adaptive ( MIN, MAX, 1.0 )
+    );
+
+  }
+
+}
@@ -0,0 +1,293 @@
+/*
+ * Copyright © 2022 JINSPIRED B.V.
+ */
+
+package io.humainary.observers.testkit;
+
+import io.humainary.observers.Observers;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.humainary.observers.Observers.SCHEDULER_JITTER;
+import static io.humainary.observers.Observers.fixed;
+import static io.humainary.observers.Observers.operant;
+import static io.humainary.observers.Observers.optic;
+import static io.humainary.observers.Observers.scheduler;
+import static io.humainary.substrates.Substrates.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The test class for the {@link Observers.Scheduler} interface.
+ *
+ * @author wlouth
+ * @since 1.0
+ */
+
+final class SchedulerTest {
+
+  private static final Name     N1     = name ( "name#1" );
+  private static final Duration PERIOD = Duration.ofMillis ( 20L );
+  private static final int      SIZE   = 16;
+
+
+  @Test
+  void schedule ()
+  throws InterruptedException {
+
+    final var latch =
+      new CountDownLatch ( 3 );
+
+    final var context =
+      Observers.context (
+        name -> new AtomicInteger (),
+        optic (
+          operant (
+            ( AtomicInteger counter ) -> {
+              latch.countDown ();
+              return
+                counter.incrementAndGet ();
+            }
+          )
+        ),
+        environment ()
+      );
+
+    final var handle =
+      context.handle ( N1 );
+
+    try ( final var scheduler = scheduler ( environment () ) ) {
+
+      final var subscription =
+        scheduler.schedule (
+          handle.observer (),
+          fixed ( PERIOD )
+        );
+
+      assertTrue (
+        latch.await (
+          5L,
+          TimeUnit.SECONDS
+        )
+      );
+
+      subscription.close ();
+
+      // allow for an observation in flight when the
+      // subscription was closed before sampling
+
+      Thread.sleep (
+        PERIOD.toMillis () * 2L
+      );
+
+      final var observed =
+        handle.value ();
+
+      Thread.sleep (
+        PERIOD.toMillis () * 5L
+      );
+
+      assertEquals (
+        observed,
+        handle.value ()
+      );
+
+    }
+
+    context.close ();
+
+  }
+
+
+
+  @Test
+  void scheduleContext ()
+  throws InterruptedException {
+
+    final Set< Name > observed =
+      ConcurrentHashMap.newKeySet ();
+
+    final var latch =
+      new CountDownLatch ( SIZE );
+
+    final var context =
+      Observers.context (
+        name -> name,
+        optic (
+          operant (
+            ( Name name ) -> {
+              if ( observed.add ( name ) ) {
+                latch.countDown ();
+              }
+              return
+                name;
+            }
+          )
+        ),
+        environment ()
+      );
+
+    for ( var i = 0; i < SIZE; i++ ) {
+      context.observer (
+        name ( "name#" + i )
+      );
+    }
+
+    // the first observations are spread, with jitter,
+    // yet every observer is observed within a period
+
+    try (
+      final var scheduler =
+        scheduler (
+          environment (
+            lookup (
+              path ->
+                path == SCHEDULER_JITTER
+                ? "50"
+                : null
+            )
+          )
+        )
+    ) {
+
+      scheduler.schedule (
+        context,
+        PERIOD
+      );
+
+      assertTrue (
+        latch.await (
+          5L,
+          TimeUnit.SECONDS
+        )
+      );
+
+    }
+
+    assertEquals (
+      SIZE,
+      observed.size ()
+    );
+
+    context.close ();
+
+  }
+
+
+  @Test
+  void cancel ()
+  throws InterruptedException {
+
+    final var observations =
+      new AtomicInteger ();
+
+    final var context =
+      Observers.context (
+        name -> new AtomicInteger (),
+        optic (
+          operant (
+            ( AtomicInteger counter ) -> {
+              observations.incrementAndGet ();
+              return
+                counter.incrementAndGet ();
+            }
+          )
+        ),
+        environment ()
+      );
+
+    for ( var i = 0; i < SIZE; i++ ) {
+      context.observer (
+        name ( "name#" + i )
+      );
+    }
+
+    final var scheduler =
+      scheduler ( environment () );
+
+    final var subscription =
+      scheduler.schedule (
+        context,
+        PERIOD
+      );
+
+    awaitObservations ( observations );
+
+    subscription.close ();
+
+    // allow for observations in flight when the
+    // subscription was closed before sampling
+
+    Thread.sleep (
+      PERIOD.toMillis () * 2L
+    );
+
+    final var cancelled =
+      observations.get ();
+
+    Thread.sleep (
+      PERIOD.toMillis () * 5L
+    );
+
+    assertEquals (
+      cancelled,
+      observations.get ()
+    );
+
+    // closing the scheduler waits on in-flight observations
+    // so that none happen once the call has returned
+
+    scheduler.schedule (
+      context,
+      PERIOD
+    );
+
+    awaitObservations ( observations );
+
+    scheduler.close ();
+
+    final var closed =
+      observations.get ();
+
+    Thread.sleep (
+      PERIOD.toMillis () * 5L
+    );
+
+    assertEquals (
+      closed,
+      observations.get ()
+    );
+
+    context.close ();
+
+  }
+
+
+  private static void awaitObservations (
+    final AtomicInteger observations
+  )
+  throws InterruptedException {
+
+    final var target =
+      observations.get () + SIZE;
+
+    final var deadline =
+      System.currentTimeMillis () + 5000L;
+
+    while ( observations.get () < target && System.currentTimeMillis () < deadline ) {
+      Thread.sleep ( PERIOD.toMillis () );
+    }
+
+    assertTrue (
+      observations.get () >= target
+    );
+
+  }
+
+}
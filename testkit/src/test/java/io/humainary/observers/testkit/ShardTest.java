@@ -0,0 +1,166 @@
+/*
+ * Copyright © 2022 JINSPIRED B.V.
+ */
+
+package io.humainary.observers.testkit;
+
+import io.humainary.counters.Counters;
+import io.humainary.observers.Observers;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static io.humainary.observers.Observers.*;
+import static io.humainary.substrates.Substrates.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * The test class for the {@link Observers#SHARDS} property.
+ *
+ * @author wlouth
+ * @since 1.0
+ */
+
+final class ShardTest {
+
+  private static final Name     N1       = name ( "name#1" );
+  private static final int      EVENTS   = 10_000;
+  private static final int      COUNTERS = 16;
+  private static final Long     ZERO     = 0L;
+  private static final String[] LANES    = {"0", "4"};
+
+
+  @Test
+  void ordered () {
+
+    for ( final var shards : LANES ) {
+
+      // the observers of an inner context emit a strictly
+      // increasing sequence of results for the same name
+
+      final var sequence =
+        new AtomicLong ();
+
+      final Observers.Context< Long > inner =
+        Observers.context (
+          name -> sequence,
+          optic (
+            lens (
+              AtomicLong::incrementAndGet
+            )
+          ),
+          environment ()
+        );
+
+      // the fold stays on the sequence only while each event
+      // follows its predecessor, and is poisoned otherwise
+
+      final Observers.Context< Long > context =
+        Observers.context (
+          inner,
+          Event::emittance,
+          optic (
+            bootstrap ( ZERO ),
+            lens (),
+            operant (
+              ( Long prev, Long value ) ->
+                prev >= 0L && value == prev + 1L
+                ? value
+                : -1L
+            )
+          ),
+          shards ( shards )
+        );
+
+      final var observer =
+        inner.observer ( N1 );
+
+      for ( var i = 0; i < EVENTS; i++ ) {
+        observer.observe ();
+      }
+
+      context.flush ();
+
+      assertEquals (
+        (long) EVENTS,
+        context.handle ( N1 ).value ()
+      );
+
+      context.close ();
+      inner.close ();
+
+    }
+
+  }
+
+
+  @Test
+  void flush () {
+
+    for ( final var shards : LANES ) {
+
+      final var counters =
+        Counters.context ();
+
+      final var names =
+        new Name[COUNTERS];
+
+      final var instruments =
+        new Counters.Counter[COUNTERS];
+
+      for ( var i = 0; i < COUNTERS; i++ ) {
+        names[i] = name ( "counter#" + i );
+        instruments[i] = counters.counter ( names[i] );
+      }
+
+      final Observers.Context< Long > context =
+        Observers.context (
+          counters,
+          Event::emittance,
+          optic (
+            bootstrap ( ZERO ),
+            lens (),
+            operant ( total -> total + 1 )
+          ),
+          shards ( shards )
+        );
+
+      for ( var i = 0; i < EVENTS; i++ ) {
+        instruments[i % COUNTERS].inc ();
+      }
+
+      // on return every event queued on a lane has been folded
+
+      context.flush ();
+
+      for ( final var name : names ) {
+        assertEquals (
+          (long) EVENTS / COUNTERS,
+          context.handle ( name ).value ()
+        );
+      }
+
+      context.close ();
+
+    }
+
+  }
+
+
+  private static Environment shards (
+    final String shards
+  ) {
+
+    return
+      environment (
+        lookup (
+          path ->
+            path == SHARDS
+            ? shards
+            : null
+        )
+      );
+
+  }
+
+}
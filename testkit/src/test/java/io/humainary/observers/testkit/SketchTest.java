@@ -0,0 +1,190 @@
+/*
+ * Copyright © 2022 JINSPIRED B.V.
+ */
+
+package io.humainary.observers.testkit;
+
+import io.humainary.observers.Observers;
+import io.humainary.observers.Observers.Sketch;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static io.humainary.observers.Observers.TRACKING;
+import static io.humainary.observers.Observers.quantile;
+import static io.humainary.observers.Observers.sketch;
+import static io.humainary.substrates.Substrates.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The test class for the {@link Observers.Sketch} interface.
+ *
+ * @author wlouth
+ * @since 1.0
+ */
+
+final class SketchTest {
+
+  private static final Name   PREFIX   = name ( "sketch" );
+  private static final Name   N1       = name ( "sketch.one" );
+  private static final Name   N2       = name ( "sketch.two" );
+  private static final double ACCURACY = 0.01;
+
+
+  @Test
+  void record () {
+
+    final var context =
+      context ();
+
+    final var h1 =
+      context.handle ( N1 );
+
+    final var h2 =
+      context.handle ( N2 );
+
+    h1.observe ();
+
+    final var sketch =
+      h1.value ();
+
+    h1.observe ();
+    h2.observe ();
+
+    // updated in place rather than replaced
+
+    assertSame (
+      sketch,
+      h1.value ()
+    );
+
+    assertEquals (
+      2L,
+      sketch.count ()
+    );
+
+    assertEquals (
+      1.0,
+      sketch.min (),
+      0.0
+    );
+
+    assertEquals (
+      2.0,
+      sketch.max (),
+      0.0
+    );
+
+    final var merged =
+      context.reduce (
+        PREFIX,
+        sketch ( ACCURACY ),
+        Sketch::accumulate
+      );
+
+    assertEquals (
+      3L,
+      merged.count ()
+    );
+
+    assertEquals (
+      2L,
+      h1.value ().count ()
+    );
+
+  }
+
+
+  @Test
+  void changed () {
+
+    final var context =
+      context ();
+
+    final var epoch =
+      context.snapshot ().epoch ();
+
+    context.observer ( N1 ).observe ();
+
+    // the same sketch instance is a changed result
+    // as a value was recorded within it since
+
+    final var changed =
+      context.changedSince ( epoch );
+
+    assertEquals (
+      1,
+      changed.size ()
+    );
+
+    assertEquals (
+      N1,
+      changed.name ( 0 )
+    );
+
+  }
+
+
+  @Test
+  void median () {
+
+    final var context =
+      Observers.context (
+        name -> new AtomicLong (),
+        quantile (
+          ( closure, counter ) ->
+            counter.incrementAndGet (),
+          0.5,
+          ACCURACY
+        ),
+        environment ()
+      );
+
+    final var observer =
+      context.observer ( N1 );
+
+    for ( var i = 0; i < 1_000; i++ ) {
+      observer.observe ();
+    }
+
+    // the values 1 to 1000 have a median of 500 or 501,
+    // each estimated to within the relative accuracy
+
+    final var estimate =
+      observer.value ();
+
+    assertTrue (
+      estimate >= 500.0 * ( 1.0 - ACCURACY ) && estimate <= 501.0 * ( 1.0 + ACCURACY ),
+      () -> "median estimate out of bounds: " + estimate
+    );
+
+    context.close ();
+
+  }
+
+
+  private static Observers.Context< Sketch > context () {
+
+    return
+      Observers.context (
+        name -> new AtomicLong (),
+        sketch (
+          ( closure, counter ) ->
+            counter.incrementAndGet (),
+          ACCURACY
+        ),
+        environment (
+          lookup (
+            path ->
+              path == TRACKING
+              ? "true"
+              : null
+          )
+        )
+      );
+
+  }
+
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright © 2022 JINSPIRED B.V.
+ */
+
+package io.humainary.observers.testkit;
+
+import io.humainary.observers.Observers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static io.humainary.observers.Observers.TRACKING;
+import static io.humainary.observers.Observers.optic;
+import static io.humainary.substrates.Substrates.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The test class for the {@link Observers.Context#snapshot()}, {@link Observers.Context#changedSince(long)} and {@link Observers.Snapshot} interfaces.
+ *
+ * @author wlouth
+ * @since 1.0
+ */
+
+final class SnapshotTest {
+
+  private static final Name N1 = name ( "name#1" );
+  private static final Name N2 = name ( "name#2" );
+
+  private Observers.Context< Integer > context;
+
+  @BeforeEach
+  void setup () {
+
+    context =
+      Observers.context (
+        lookup ( name -> ( name == N1 ) ? 1 : 2 ),
+        optic (),
+        environment ()
+      );
+
+  }
+
+
+  @Test
+  void snapshot () {
+
+    context.observer ( N1 ).observe ();
+    context.observer ( N2 ).observe ();
+
+    final var snapshot =
+      context.snapshot ();
+
+    final Map< Name, Integer > results =
+      new HashMap<> ();
+
+    snapshot.forEach (
+      results::put
+    );
+
+    assertEquals (
+      Map.of (
+        N1, 1,
+        N2, 2
+      ),
+      results
+    );
+
+    context.observer ( N1 ).observe ();
+
+    final var next =
+      context.snapshot ();
+
+    assertTrue (
+      next.epoch () > snapshot.epoch ()
+    );
+
+    assertEquals (
+      2,
+      snapshot.size ()
+    );
+
+  }
+
+
+  @Test
+  void changedSince () {
+
+    final var values =
+      new HashMap< Name, Integer > ();
+
+    values.put ( N1, 1 );
+    values.put ( N2, 2 );
+
+    final Observers.Context< Integer > tracked =
+      Observers.context (
+        values::get,
+        optic (),
+        environment (
+          lookup (
+            path ->
+              path == TRACKING
+              ? "true"
+              : null
+          )
+        )
+      );
+
+    tracked.observer ( N1 ).observe ();
+    tracked.observer ( N2 ).observe ();
+
+    final var snapshot =
+      tracked.snapshot ();
+
+    values.put ( N2, 3 );
+
+    tracked.observer ( N1 ).observe ();
+    tracked.observer ( N2 ).observe ();
+
+    final var changed =
+      tracked.changedSince (
+        snapshot.epoch ()
+      );
+
+    assertEquals (
+      1,
+      changed.size ()
+    );
+
+    assertEquals (
+      N2,
+      changed.name ( 0 )
+    );
+
+    assertEquals (
+      3,
+      changed.result ( 0 )
+    );
+
+    assertEquals (
+      0,
+      tracked.changedSince (
+        changed.epoch ()
+      ).size ()
+    );
+
+  }
+
+}
@@ -0,0 +1,329 @@
+/*
+ * Copyright © 2022 JINSPIRED B.V.
+ */
+
+package io.humainary.observers.testkit;
+
+import io.humainary.observers.Observers;
+import io.humainary.observers.Observers.Closure;
+import io.humainary.observers.Observers.Storage;
+import org.junit.jupiter.api.Test;
+
+import java.nio.BufferOverflowException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static io.humainary.observers.Observers.*;
+import static io.humainary.substrates.Substrates.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * The test class for the {@link Observers#STORAGE} property.
+ *
+ * @author wlouth
+ * @since 1.0
+ */
+
+final class StorageTest {
+
+  private static final Name N1 = name ( "name#1" );
+  private static final Name N2 = name ( "name#2" );
+
+
+  @Test
+  void closure () {
+
+    for ( final var storage : new Storage[]{Storage.HEAP, Storage.SLAB, Storage.SEGMENT} ) {
+
+      final var context =
+        context (
+          storage
+        );
+
+      final var h1 =
+        context.handle ( N1 );
+
+      final var h2 =
+        context.handle ( N2 );
+
+      h1.observe ();
+      h1.observe ();
+      h2.observe ();
+
+      // reference state is the running sum of the
+      // observed values, the primitive slot the count
+
+      assertEquals (
+        302L,
+        h1.value ()
+      );
+
+      assertEquals (
+        101L,
+        h2.value ()
+      );
+
+      context.close ();
+
+    }
+
+  }
+
+
+  @Test
+  void detached () {
+
+    final Closure< Long > closure =
+      new Closure<> () {
+
+        private Long value;
+
+        @Override
+        public void set (
+          final Long value
+        ) {
+
+          this.value = value;
+
+        }
+
+        @Override
+        public Long get () {
+
+          return
+            value;
+
+        }
+
+      };
+
+    final var context =
+      context (
+        Storage.HEAP
+      );
+
+    final var observer =
+      context.observer ( N1 );
+
+    observer.observe ();
+
+    assertEquals (
+      101L,
+      observer.observe (
+        lens (),
+        closure
+      )
+    );
+
+    // a closure not created by a context holds no primitive slot
+
+    assertThrows (
+      UnsupportedOperationException.class,
+      () -> observer.observe (
+        ( Closure< Long > detached, Long result ) ->
+          detached.asLong ().getAsLong (),
+        closure
+      )
+    );
+
+    assertThrows (
+      UnsupportedOperationException.class,
+      () -> observer.observe (
+        ( Closure< Long > detached, Long result ) ->
+          detached.asDouble ().getAsDouble (),
+        closure
+      )
+    );
+
+    context.close ();
+
+  }
+
+
+  @Test
+  void arena () {
+
+    final var context =
+      Observers.context (
+        name -> new AtomicLong (),
+        encoded (
+          summing (),
+          longCodec (),
+          longCodec ()
+        ),
+        storage ( Storage.ARENA )
+      );
+
+    final var h1 =
+      context.handle ( N1 );
+
+    final var h2 =
+      context.handle ( N2 );
+
+    h1.observe ();
+    h1.observe ();
+    h2.observe ();
+
+    assertEquals (
+      302L,
+      h1.value ()
+    );
+
+    assertEquals (
+      101L,
+      h2.value ()
+    );
+
+    context.close ();
+
+  }
+
+
+  @Test
+  void arenaNotEncoded () {
+
+    // without codecs the reference state cannot be held off-heap
+
+    assertThrows (
+      IllegalArgumentException.class,
+      () -> context ( Storage.ARENA )
+    );
+
+  }
+
+
+  @Test
+  void arenaOverflow () {
+
+    final var value =
+      new AtomicReference<> ( "small" );
+
+    final var context =
+      Observers.context (
+        name -> value,
+        encoded (
+          Observers.< String, AtomicReference< String >, String >optic (
+            lens ( ( AtomicReference< String > ref ) -> ref.get () )
+          ),
+          stringCodec (),
+          stringCodec ()
+        ),
+        environment (
+          lookup (
+            path ->
+              path == STORAGE
+              ? Storage.ARENA.name ()
+              : path == STORAGE_SLOT
+                ? "16"
+                : null
+          )
+        )
+      );
+
+    final var handle =
+      context.handle ( N1 );
+
+    handle.observe ();
+
+    value.set ( "a value too wide for the slot" );
+
+    assertThrows (
+      BufferOverflowException.class,
+      handle::observe
+    );
+
+    // the failed write leaves the previous result in place
+
+    assertEquals (
+      "small",
+      handle.value ()
+    );
+
+    context.close ();
+
+  }
+
+
+  private static Observers.Context< Long > context (
+    final Storage storage
+  ) {
+
+    return
+      Observers.context (
+        name -> new AtomicLong (),
+        summing (),
+        storage ( storage )
+      );
+
+  }
+
+
+  private static Optic< Long, AtomicLong, Long, Long > summing () {
+
+    return
+      optic (
+        StorageTest::initialize,
+        lens (
+          AtomicLong::incrementAndGet
+        ),
+        StorageTest::compose
+      );
+
+  }
+
+
+  private static Environment storage (
+    final Storage storage
+  ) {
+
+    return
+      environment (
+        lookup (
+          path ->
+            path == STORAGE
+            ? storage.name ()
+            : null
+        )
+      );
+
+  }
+
+
+  private static Long initialize (
+    final Closure< Long > closure,
+    final Name name
+  ) {
+
+    closure.set ( 0L );
+    closure.asLong ().setAsLong ( 0L );
+
+    return
+      0L;
+
+  }
+
+
+  private static Long compose (
+    final Closure< Long > closure,
+    final Long prev,
+    final Long value
+  ) {
+
+    final var slot =
+      closure.asLong ();
+
+    slot.setAsLong (
+      slot.getAsLong () + 1L
+    );
+
+    closure.set (
+      closure.get () + value
+    );
+
+    return
+      closure.get () * 100L + slot.getAsLong ();
+
+  }
+
+}
@@ -0,0 +1,240 @@
+/*
+ * Copyright © 2022 JINSPIRED B.V.
+ */
+
+package io.humainary.observers.testkit;
+
+import io.humainary.counters.Counters;
+import io.humainary.observers.Observers;
+import io.humainary.observers.Observers.Synchronization;
+import org.junit.jupiter.api.Test;
+
+import static io.humainary.observers.Observers.OBSERVER_LIMIT;
+import static io.humainary.observers.Observers.SYNCHRONIZATION;
+import static io.humainary.observers.Observers.optic;
+import static io.humainary.substrates.Substrates.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The test class for the {@link Observers#SYNCHRONIZATION} property.
+ *
+ * @author wlouth
+ * @since 1.0
+ */
+
+final class SynchronizationTest {
+
+  private static final Name N1 = name ( "name#1" );
+  private static final Name N2 = name ( "name#2" );
+
+
+  @Test
+  void added () {
+
+    for ( final var synchronization : Synchronization.values () ) {
+
+      final var counters =
+        Counters.context ();
+
+      counters.counter ( N1 ).inc ();
+
+      final var context =
+        context (
+          counters,
+          synchronization
+        );
+
+      context.sync ();
+
+      assertTrue (
+        context.get ( N1 ).isPresent ()
+      );
+
+      assertFalse (
+        context.get ( N2 ).isPresent ()
+      );
+
+      final var o1 =
+        context.get ( N1 ).orElseThrow ();
+
+      // an observable added between synchronizations
+      // is picked up whatever the synchronization
+
+      counters.counter ( N2 ).inc ();
+
+      context.sync ();
+
+      final var o2 =
+        context.get ( N2 ).orElseThrow ();
+
+      // the observers of observables left unchanged
+      // are retained rather than created again
+
+      context.sync ();
+
+      assertSame (
+        o1,
+        context.get ( N1 ).orElseThrow ()
+      );
+
+      assertSame (
+        o2,
+        context.get ( N2 ).orElseThrow ()
+      );
+
+      context.close ();
+
+    }
+
+  }
+
+
+  @Test
+  void removed () {
+
+    for ( final var synchronization : Synchronization.values () ) {
+
+      // the observers of an inner context bounded to a
+      // single observer serve as a removable container
+
+      final Observers.Context< Long > inner =
+        Observers.context (
+          lookup ( name -> 1L ),
+          optic (),
+          environment (
+            lookup (
+              path ->
+                path == OBSERVER_LIMIT
+                ? "1"
+                : null
+            )
+          )
+        );
+
+      inner.observer ( N1 );
+
+      final var context =
+        context (
+          inner,
+          synchronization
+        );
+
+      context.sync ();
+
+      assertTrue (
+        context.get ( N1 ).isPresent ()
+      );
+
+      // evicts the first observer of the inner context
+
+      inner.observer ( N2 );
+
+      context.sync ();
+
+      assertFalse (
+        context.get ( N1 ).isPresent ()
+      );
+
+      assertTrue (
+        context.get ( N2 ).isPresent ()
+      );
+
+      context.close ();
+      inner.close ();
+
+    }
+
+  }
+
+
+  @Test
+  void churn () {
+
+    final var full =
+      resolved ( Synchronization.FULL );
+
+    final var incremental =
+      resolved ( Synchronization.INCREMENTAL );
+
+    // a full synchronization resolves every observable
+    // whereas an incremental one only those affected
+
+    assertTrue (
+      full >= 2L,
+      () -> "unexpected full lookups: " + full
+    );
+
+    assertEquals (
+      0L,
+      incremental
+    );
+
+  }
+
+
+  /**
+   * Returns the number of name-to-observer lookups made by a synchronization without churn.
+   */
+
+  private static long resolved (
+    final Synchronization synchronization
+  ) {
+
+    final var counters =
+      Counters.context ();
+
+    counters.counter ( N1 ).inc ();
+    counters.counter ( N2 ).inc ();
+
+    final var context =
+      context (
+        counters,
+        synchronization
+      );
+
+    context.sync ();
+
+    final var before =
+      context.statistics ();
+
+    final var lookups =
+      before.hits () + before.misses ();
+
+    context.sync ();
+
+    final var after =
+      context.statistics ();
+
+    context.close ();
+
+    return
+      after.hits () + after.misses () - lookups;
+
+  }
+
+
+  private static < O extends Component > Observers.Context< O > context (
+    final Container< O > container,
+    final Synchronization synchronization
+  ) {
+
+    return
+      Observers.context (
+        container,
+        optic (),
+        environment (
+          lookup (
+            path ->
+              path == SYNCHRONIZATION
+              ? synchronization.name ()
+              : null
+          )
+        )
+      );
+
+  }
+
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright © 2022 JINSPIRED B.V.
+ */
+
+package io.humainary.observers.testkit;
+
+import io.humainary.observers.Observers;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static io.humainary.observers.Observers.*;
+import static io.humainary.substrates.Substrates.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * The test class for the {@link Observers.Window} based optics.
+ *
+ * @author wlouth
+ * @since 1.0
+ */
+
+final class WindowTest {
+
+  private static final Name   N1    = name ( "name#1" );
+  private static final double DELTA = 1.0E-9;
+
+
+  @Test
+  void sliding ()
+  throws InterruptedException {
+
+    final var value =
+      new AtomicLong ();
+
+    // four buckets of 250ms each, with a value held
+    // for at least 750ms and for no longer than 1s
+
+    final var context =
+      Observers.context (
+        name -> value,
+        window (
+          longLens ( AtomicLong::get ),
+          Duration.ofSeconds ( 1L ),
+          4
+        ),
+        environment ()
+      );
+
+    final var observer =
+      context.observer ( N1 );
+
+    assertEquals (
+      5L,
+      observe ( observer, value, 5L )
+    );
+
+    Thread.sleep ( 100L );
+
+    assertEquals (
+      12L,
+      observe ( observer, value, 7L )
+    );
+
+    // past the duration every bucket has expired
+
+    Thread.sleep ( 1_100L );
+
+    assertEquals (
+      1L,
+      observe ( observer, value, 1L )
+    );
+
+    context.close ();
+
+  }
+
+
+  @Test
+  void tumbling ()
+  throws InterruptedException {
+
+    final var value =
+      new AtomicLong ();
+
+    final var hour =
+      Observers.context (
+        name -> value,
+        tumble (
+          longLens ( AtomicLong::get ),
+          Duration.ofHours ( 1L )
+        ),
+        environment ()
+      );
+
+    final var accumulating =
+      hour.observer ( N1 );
+
+    observe ( accumulating, value, 3L );
+
+    assertEquals (
+      7L,
+      observe ( accumulating, value, 4L )
+    );
+
+    hour.close ();
+
+    final var brief =
+      Observers.context (
+        name -> value,
+        tumble (
+          longLens ( AtomicLong::get ),
+          Duration.ofMillis ( 200L )
+        ),
+        environment ()
+      );
+
+    final var resetting =
+      brief.observer ( N1 );
+
+    observe ( resetting, value, 3L );
+
+    // more than a whole window later the sum starts again
+
+    Thread.sleep ( 450L );
+
+    assertEquals (
+      1L,
+      observe ( resetting, value, 1L )
+    );
+
+    brief.close ();
+
+  }
+
+
+  @Test
+  void perSecond () {
+
+    final var value =
+      new AtomicLong ();
+
+    final var context =
+      Observers.context (
+        name -> value,
+        rate (
+          longLens ( AtomicLong::get ),
+          Duration.ofSeconds ( 2L ),
+          10
+        ),
+        environment ()
+      );
+
+    final var observer =
+      context.observer ( N1 );
+
+    value.set ( 100L );
+    observer.observe ();
+
+    // the sum within the window over its duration in seconds
+
+    assertEquals (
+      50.0,
+      observer.value (),
+      DELTA
+    );
+
+    value.set ( 50L );
+    observer.observe ();
+
+    assertEquals (
+      75.0,
+      observer.value (),
+      DELTA
+    );
+
+    context.close ();
+
+  }
+
+
+  private static long observe (
+    final Observers.LongObserver observer,
+    final AtomicLong value,
+    final long observed
+  ) {
+
+    value.set ( observed );
+    observer.observe ();
+
+    return
+      observer.value ();
+
+  }
+
+}